@@ -16,10 +16,31 @@
 
 import ballerina/jballerina.java;
 
-function init() {
+# Time zone IDs (e.g., `Asia/Colombo`) to be loaded during the module initialization. The rules of these zones and
+# the related parsing and formatting paths are initialized up front, so that the first requests that use them do
+# not pay that cost.
+configurable string[] preloadZones = [];
+
+# Loads the `preloadZones` in a background thread instead of delaying the module initialization. The zone IDs are
+# still validated during the module initialization.
+configurable boolean preloadInBackground = false;
+
+function init() returns Error? {
     setModule();
+    if preloadZones.length() == 0 {
+        return;
+    }
+    if preloadInBackground {
+        check externWarmUpInBackground(preloadZones);
+    } else {
+        _ = check warmUp(preloadZones);
+    }
 }
 
 function setModule() = @java:Method {
     'class: "io.ballerina.stdlib.time.util.ModuleUtils"
 } external;
+
+isolated function externWarmUpInBackground(string[] zoneIds) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.TimeZoneExternUtils"
+} external;
@@ -884,3 +884,811 @@ isolated function dataProviderInvalidZoneDateTimeCivilAddDuration() returns [str
         ["Asia/Colombo", {year: 2025, month: 13, day: 23, hour: 0, minute: 20, second: 1.2, timeAbbrev: "America/Los_Angeles", utcOffset: {hours: 8, minutes: 0}}, {years: 0, months: 10, days: 5, hours: 0, minutes: 0, seconds: 0}, "Invalid value for MonthOfYear (valid values 1 - 12): 13"]
     ];
 }
+
+@test:Config {
+    groups: ["series", "zone"]
+}
+isolated function testZoneCivilSeriesWithMonthEndClamping() returns Error? {
+    Zone? zone = getZone("Asia/Colombo");
+    test:assertTrue(zone is Zone);
+    Civil civil = check civilFromString("2025-01-31T09:00:00+05:30[Asia/Colombo]");
+    Civil[] series = check (<Zone>zone).civilSeries(civil, {months: 1}, 4);
+    test:assertEquals(series.length(), 4);
+    test:assertEquals(series.map(member => member.month), [1, 2, 3, 4]);
+    test:assertEquals(series.map(member => member.day), [31, 28, 31, 30]);
+    test:assertEquals(series.map(member => member.hour), [9, 9, 9, 9]);
+}
+
+@test:Config {
+    groups: ["series", "zone"]
+}
+isolated function testZoneUtcSeriesAcrossDstGap() returns Error? {
+    Zone? zone = getZone("America/New_York");
+    test:assertTrue(zone is Zone);
+    Civil civil = {year: 2025, month: 3, day: 8, hour: 2, minute: 30, second: 0, utcOffset: {hours: -5}};
+    Utc[] series = check (<Zone>zone).utcSeries(civil, {days: 1}, 3);
+    test:assertEquals(series.map(utc => utcToString(utc)),
+            ["2025-03-08T07:30:00Z", "2025-03-09T07:30:00Z", "2025-03-10T06:30:00Z"]);
+}
+
+@test:Config {
+    groups: ["series", "zone"]
+}
+isolated function testZoneCivilSeriesUntilCivil() returns Error? {
+    Zone? zone = getZone("Z");
+    test:assertTrue(zone is Zone);
+    Civil civil = {year: 2025, month: 1, day: 1, hour: 0, minute: 0, timeAbbrev: "Z"};
+    Civil[] series = check (<Zone>zone).civilSeries(civil, {weeks: 1}, {year: 2025, month: 1, day: 29, hour: 0, minute: 0});
+    test:assertEquals(series.map(member => member.day), [1, 8, 15, 22, 29]);
+}
+
+@test:Config {
+    groups: ["series", "zone"]
+}
+isolated function testZoneCivilSeriesWithInvalidArguments() {
+    Zone? zone = getZone("Asia/Colombo");
+    test:assertTrue(zone is Zone);
+    Civil civil = {year: 2025, month: 1, day: 1, hour: 0, minute: 0, timeAbbrev: "Asia/Colombo"};
+    Civil[]|Error result1 = (<Zone>zone).civilSeries(civil, {days: 1}, -1);
+    test:assertTrue(result1 is Error);
+    test:assertEquals((<Error>result1).message(), "The series count should be a non-negative value: -1");
+
+    Civil[]|Error result2 = (<Zone>zone).civilSeries(civil, {}, 10);
+    test:assertTrue(result2 is Error);
+    test:assertEquals((<Error>result2).message(), "The series step should move the time forward");
+
+    Civil[]|Error result3 = (<Zone>zone).civilSeries(civil, {days: 1}, 10001);
+    test:assertTrue(result3 is Error);
+    test:assertEquals((<Error>result3).message(), "The series count should be at most 10000: 10001");
+
+    Civil[]|Error result4 = (<Zone>zone).civilSeries(civil, {minutes: 1}, {year: 2026, month: 1, day: 1, hour: 0, minute: 0});
+    test:assertTrue(result4 is Error);
+    test:assertEquals((<Error>result4).message(), "The series should have at most 10000 members");
+}
+
+@test:Config {
+    groups: ["series", "zone"]
+}
+isolated function testZoneUtcSeriesIntoDstOverlap() returns Error? {
+    Zone? zone = getZone("America/New_York");
+    test:assertTrue(zone is Zone);
+    // 01:30 on 2025-11-02 occurs twice in America/New_York and takes the earlier (EDT) offset
+    Civil civil = {year: 2024, month: 11, day: 4, hour: 1, minute: 30, second: 0, utcOffset: {hours: -5}};
+    Utc[] series = check (<Zone>zone).utcSeries(civil, {days: 363}, 2);
+    test:assertEquals(series.map(utc => utcToString(utc)), ["2024-11-04T06:30:00Z", "2025-11-02T05:30:00Z"]);
+}
+
+@test:Config {
+    groups: ["recurrence"]
+}
+isolated function testRecurrenceNext() returns Error? {
+    TimeZone zone = check new ("Asia/Colombo");
+    Recurrence recurrence = check new ("0 9 * * MON-FRI", zone);
+    // Friday, 2025-10-17 15:30 in Asia/Colombo
+    Utc? next = recurrence.next(check utcFromString("2025-10-17T10:00:00Z"));
+    test:assertTrue(next is Utc);
+    test:assertEquals(utcToString(<Utc>next), "2025-10-20T03:30:00Z");
+}
+
+@test:Config {
+    groups: ["recurrence"]
+}
+isolated function testRecurrenceNextNAcrossDstGap() returns Error? {
+    TimeZone zone = check new ("America/New_York");
+    Recurrence recurrence = check new ("30 2 * * *", zone);
+    Utc[] fireTimes = check recurrence.nextN(check utcFromString("2025-03-08T00:00:00Z"), 3);
+    test:assertEquals(fireTimes.map(utc => utcToString(utc)),
+            ["2025-03-08T07:30:00Z", "2025-03-09T07:30:00Z", "2025-03-10T06:30:00Z"]);
+}
+
+@test:Config {
+    groups: ["recurrence"]
+}
+isolated function testRecurrencePreviousAcrossDstOverlap() returns Error? {
+    TimeZone zone = check new ("America/New_York");
+    Recurrence recurrence = check new ("*/20 1 * * *", zone);
+    Utc? previous = recurrence.previous(check utcFromString("2025-11-03T06:00:00Z"));
+    test:assertTrue(previous is Utc);
+    test:assertEquals(utcToString(<Utc>previous), "2025-11-02T05:40:00Z");
+}
+
+@test:Config {
+    groups: ["recurrence"]
+}
+isolated function testRecurrencePreviousInsideDstOverlap() returns Error? {
+    TimeZone zone = check new ("America/New_York");
+    Recurrence recurrence = check new ("* * * * *", zone);
+    // 01:30 EST, the second half of the overlap, which has already fired with the EDT offset
+    Utc? previous = recurrence.previous(check utcFromString("2025-11-02T06:30:00Z"));
+    test:assertTrue(previous is Utc);
+    test:assertEquals(utcToString(<Utc>previous), "2025-11-02T05:59:00Z");
+}
+
+@test:Config {
+    groups: ["recurrence"]
+}
+isolated function testRecurrenceWithSteppedDayOfMonth() returns Error? {
+    // `*/2` is not restricted, so the day should be both an odd day of the month and a Monday
+    Recurrence recurrence = check new ("0 0 */2 * MON");
+    Utc[] fireTimes = check recurrence.nextN(check utcFromString("2025-01-01T00:00:00Z"), 2);
+    test:assertEquals(fireTimes.map(utc => utcToString(utc)), ["2025-01-13T00:00:00Z", "2025-01-27T00:00:00Z"]);
+
+    Utc[]|Error result = recurrence.nextN(check utcFromString("2025-01-01T00:00:00Z"), 10001);
+    test:assertTrue(result is Error);
+    test:assertEquals((<Error>result).message(), "The count should be between 0 and 10000: 10001");
+}
+
+@test:Config {
+    groups: ["recurrence"]
+}
+isolated function testRecurrenceWithInvalidAndNeverFiringExpressions() returns Error? {
+    Recurrence|Error recurrence1 = new ("61 * * * *");
+    test:assertTrue(recurrence1 is Error);
+    test:assertEquals((<Error>recurrence1).message(), "Invalid cron expression '61 * * * *': invalid value '61'");
+
+    Recurrence recurrence2 = check new ("0 0 30 2 *");
+    test:assertTrue(recurrence2.next(check utcFromString("2025-01-01T00:00:00Z")) is ());
+}
+
+@test:Config {
+    groups: ["zone"]
+}
+isolated function testWarmUp() returns Error? {
+    Seconds duration = check warmUp(["America/New_York", "Europe/Paris"]);
+    test:assertTrue(duration >= 0d);
+    Zone? zone = getZone("Europe/Paris");
+    test:assertTrue(zone is Zone);
+}
+
+@test:Config {
+    groups: ["zone"]
+}
+isolated function testWarmUpWithInvalidZone() {
+    Seconds|Error result = warmUp(["Asia/Colombo", "Colombo"]);
+    test:assertTrue(result is Error);
+    test:assertEquals((<Error>result).message(), "Unknown time-zone ID: Colombo");
+}
+
+@test:Config {
+    groups: ["deadline"]
+}
+isolated function testDeadline() {
+    Deadline deadline = deadlineAfter(60);
+    test:assertFalse(deadline.isExpired());
+    Seconds remaining = deadline.remaining();
+    test:assertTrue(remaining > 59d && remaining <= 60d);
+    Seconds untilExpiry = utcDiffSeconds(deadline.toUtc(), utcNow());
+    test:assertTrue(untilExpiry > 59d && untilExpiry <= 61d);
+
+    Deadline expired = new (-1);
+    test:assertTrue(expired.isExpired());
+    test:assertEquals(expired.remaining(), 0d);
+    test:assertTrue(deadline.min(expired) === expired);
+    test:assertTrue(expired.min(deadline) === expired);
+}
+
+@test:Config {
+    groups: ["utc", "ordering"]
+}
+isolated function testUtcCompareMinAndMax() {
+    Utc utc1 = [1700000000, 0.5];
+    Utc utc2 = [1700000000, 0.25];
+    Utc utc3 = [1699999999, 1.5];
+    test:assertTrue(utcCompare(utc1, utc2) > 0);
+    test:assertTrue(utcCompare(utc2, utc1) < 0);
+    test:assertEquals(utcCompare(utc1, [1700000000, 0.50]), 0);
+    test:assertEquals(utcCompare(utc3, utc1), 0);
+    test:assertEquals(utcMin(utc1, utc2, utc3), utc2);
+    test:assertEquals(utcMax(utc2, utc1), utc1);
+    test:assertEquals(utcMax(utc1), utc1);
+}
+
+@test:Config {
+    groups: ["utc", "ordering"]
+}
+isolated function testUtcSortAndMergeSorted() returns Error? {
+    Utc[] utcs = [[1700000100, 0.1], [1600000000, 0.9], [1700000100, 0.05], [-100, 0.0], [1600000000, 0.9]];
+    Utc[] sorted = utcSort(utcs);
+    test:assertEquals(sorted, [[-100, 0.0], [1600000000, 0.9], [1600000000, 0.9], [1700000100, 0.05],
+            [1700000100, 0.1]]);
+    test:assertTrue(sorted[1] === utcs[1]);
+    test:assertEquals(utcs[0], [1700000100, 0.1]);
+    any sortedValue = sorted;
+    test:assertTrue(sortedValue is Utc[]);
+
+    Utc[] merged = check utcMergeSorted([[[1, 0.5], [3, 0.0]], [], [[0, 0.9], [2, 0.0], [4, 0.0]]]);
+    test:assertEquals(merged, [[0, 0.9], [1, 0.5], [2, 0.0], [3, 0.0], [4, 0.0]]);
+    any mergedValue = merged;
+    test:assertTrue(mergedValue is Utc[]);
+
+    Utc[]|Error result = utcMergeSorted([[[1, 0.0]], [[3, 0.0], [2, 0.0]]]);
+    test:assertTrue(result is Error);
+    test:assertEquals((<Error>result).message(), "The UTC list at index 1 is not sorted");
+}
+
+@test:Config {
+    groups: ["zone", "transition"]
+}
+isolated function testZoneTransitions() returns Error? {
+    Zone? zone = getZone("America/New_York");
+    test:assertTrue(zone is Zone);
+    ZoneTransition[] transitions = check (<Zone>zone).transitions(check utcFromString("2025-03-09T07:00:00Z"),
+            check utcFromString("2026-01-01T00:00:00Z"));
+    test:assertEquals(transitions.length(), 2);
+    test:assertEquals(utcToString(transitions[0].utc), "2025-03-09T07:00:00Z");
+    test:assertEquals(transitions[0].offsetBefore, {hours: -5, minutes: 0});
+    test:assertEquals(transitions[0].offsetAfter, {hours: -4, minutes: 0});
+    test:assertEquals(utcToString(transitions[1].utc), "2025-11-02T06:00:00Z");
+
+    ZoneTransition[] emptyRange = check (<Zone>zone).transitions(check utcFromString("2025-11-02T06:00:00Z"),
+            check utcFromString("2025-11-02T06:00:00Z"));
+    test:assertEquals(emptyRange.length(), 0);
+
+    ZoneTransition[]|Error tooMany = (<Zone>zone).transitions(check utcFromString("2000-01-01T00:00:00Z"),
+            check utcFromString("9000-01-01T00:00:00Z"));
+    test:assertTrue(tooMany is Error);
+    test:assertEquals((<Error>tooMany).message(), "The range should have at most 10000 transitions");
+}
+
+@test:Config {
+    groups: ["zone", "transition"]
+}
+isolated function testZoneNextTransition() returns Error? {
+    Zone? zone = getZone("Asia/Colombo");
+    test:assertTrue(zone is Zone);
+    ZoneTransition? transition = (<Zone>zone).nextTransition(check utcFromString("2006-01-01T00:00:00Z"));
+    test:assertTrue(transition is ZoneTransition);
+    test:assertEquals(utcToString((<ZoneTransition>transition).utc), "2006-04-14T18:30:00Z");
+    test:assertEquals((<ZoneTransition>transition).offsetBefore, {hours: 6, minutes: 0});
+    test:assertEquals((<ZoneTransition>transition).offsetAfter, {hours: 5, minutes: 30});
+    test:assertTrue((<Zone>zone).nextTransition(check utcFromString("2025-01-01T00:00:00Z")) is ());
+}
+
+@test:Config {
+    groups: ["utc", "date"]
+}
+isolated function testUtcToDateAndTimeOfDay() returns Error? {
+    Utc utc = check utcFromString("2021-04-12T23:20:50.520Z");
+    test:assertEquals(utcToDate(utc), {year: 2021, month: 4, day: 12});
+    test:assertEquals(utcToTimeOfDay(utc), {hour: 23, minute: 20, second: 50.52d});
+
+    Zone? zone = getZone("Asia/Colombo");
+    test:assertTrue(zone is Zone);
+    test:assertEquals(utcToDate(utc, zone), {year: 2021, month: 4, day: 13});
+    test:assertEquals(utcToTimeOfDay(utc, zone), {hour: 4, minute: 50, second: 50.52d});
+    test:assertEquals(utcToDate([-1, 0.5]), {year: 1969, month: 12, day: 31});
+    test:assertEquals(utcToTimeOfDay([-1, 0.5]), {hour: 23, minute: 59, second: 59.5d});
+}
+
+@test:Config {
+    groups: ["utc", "date"]
+}
+isolated function testUtcToEpochDay() returns Error? {
+    Utc utc = check utcFromString("2021-04-12T23:20:50.520Z");
+    test:assertEquals(utcToEpochDay(utc), 18729);
+    test:assertEquals(utcToEpochDay(utc, getZone("Asia/Colombo")), 18730);
+    test:assertEquals(utcToEpochDay(utc, getZone("America/New_York")), 18729);
+    test:assertEquals(utcToEpochDay([-1, 0.999]), -1);
+    test:assertEquals(utcToEpochDay([0, 0.0]), 0);
+}
+
+@test:Config {
+    groups: ["hybridclock"]
+}
+isolated function testHybridClock() returns error? {
+    HybridClock clock = new;
+    int first = clock.now();
+    int second = clock.now();
+    test:assertTrue(second > first);
+    test:assertTrue(utcDiffSeconds(utcNow(), hlcToUtc(second)) < 1d);
+
+    // A timestamp from a node whose clock is slightly ahead moves the local clock past it.
+    int received = (check hlcFromUtc(utcAddSeconds(utcNow(), 5))) + 3;
+    int updated = check clock.update(received);
+    test:assertEquals(updated, received + 1);
+    test:assertTrue(clock.now() > updated);
+    test:assertTrue(clock.update(first) is int);
+
+    int|Error tooFarAhead = clock.update(check hlcFromUtc(utcAddSeconds(utcNow(), 3600)));
+    test:assertTrue(tooFarAhead is Error);
+}
+
+@test:Config {
+    groups: ["hybridclock"]
+}
+isolated function testHlcUtcConversion() returns error? {
+    int timestamp = check hlcFromUtc([1700000000, 0.5259]);
+    test:assertEquals(timestamp, 1700000000525 * 65536);
+    test:assertEquals(hlcToUtc(timestamp + 42), <Utc>[1700000000, 0.525]);
+
+    int|Error beforeEpoch = hlcFromUtc([-1, 0.5]);
+    test:assertTrue(beforeEpoch is Error);
+    test:assertEquals((<Error>beforeEpoch).message(),
+            "The UTC value is out of the range of hybrid clock timestamps: -1");
+}
+
+@test:Config {
+    groups: ["idgenerator"]
+}
+isolated function testTimeOrderedIdGenerator() returns error? {
+    TimeOrderedIdGenerator uuidGenerator = new;
+    string first = uuidGenerator.nextId();
+    string second = uuidGenerator.nextId();
+    test:assertEquals(first.length(), 36);
+    test:assertEquals(first.substring(14, 15), "7");
+    test:assertTrue(second > first);
+    test:assertTrue(utcDiffSeconds(utcNow(), check idToUtc(second)) < 1d);
+
+    TimeOrderedIdGenerator ulidGenerator = new (ULID, true);
+    string[] ids = check ulidGenerator.nextIds(3);
+    test:assertEquals(ids.length(), 3);
+    test:assertEquals(ids[0].length(), 26);
+    test:assertTrue(ids[0] < ids[1] && ids[1] < ids[2]);
+    test:assertTrue(ulidGenerator.nextId() > ids[2]);
+    test:assertTrue(ulidGenerator.nextIds(-1) is Error);
+    test:assertEquals((check ulidGenerator.nextIds(4096)).length(), 4096);
+    string[]|Error tooManyIds = ulidGenerator.nextIds(4097);
+    test:assertTrue(tooManyIds is Error);
+    test:assertEquals((<Error>tooManyIds).message(), "The number of IDs should be between 0 and 4096: 4097");
+
+    byte[] idBytes = ulidGenerator.nextIdBytes();
+    test:assertEquals(idBytes.length(), 16);
+    test:assertTrue(utcDiffSeconds(utcNow(), check idToUtc(idBytes)) < 1d);
+}
+
+@test:Config {
+    groups: ["idgenerator"]
+}
+isolated function testIdToUtc() returns error? {
+    test:assertEquals(check idToUtc("01ARZ3NDEKTSV4RRFFQ69G5FAV"), <Utc>[1469922850, 0.259]);
+    test:assertEquals(check idToUtc("01890a5d-ac96-774b-bcce-b302099a8057"), <Utc>[1688096058, 0.518]);
+    Utc|Error invalid = idToUtc("01890a5d-ac96-474b-bcce-b302099a8057");
+    test:assertTrue(invalid is Error);
+    test:assertEquals((<Error>invalid).message(), "Invalid time-ordered ID: 01890a5d-ac96-474b-bcce-b302099a8057");
+}
+
+@test:Config {
+    groups: ["zone", "utcToCivil"]
+}
+isolated function testZoneUtcToCivilAcrossTransition() {
+    Zone? zone = getZone("America/New_York");
+    test:assertTrue(zone is Zone);
+    // The consecutive values share the local day until the start of daylight saving time at 2025-03-09T07:00:00Z.
+    Utc beforeGap = [1741503599, 0.5];
+    Utc atGap = [1741503600, 0];
+    [Utc, int, int][] expected = [
+        [[1741496400, 0], 0, 0],
+        [beforeGap, 1, 59],
+        [atGap, 3, 0],
+        [[1741539599, 0], 12, 59],
+        [beforeGap, 1, 59],
+        [[1741579200, 0], 0, 0]
+    ];
+    foreach [Utc, int, int] [utc, hour, minute] in expected {
+        Civil civil = (<Zone>zone).utcToCivil(utc);
+        test:assertEquals([civil.day, civil.hour, civil.minute], [utc[0] < 1741579200 ? 9 : 10, hour, minute]);
+        test:assertEquals(civil.dayOfWeek, utc[0] < 1741579200 ? SUNDAY : MONDAY);
+    }
+    test:assertEquals((<Zone>zone).utcToCivil(beforeGap).second, 59.5d);
+
+    Civil nextDay = utcToCivil([1618358399, 0.25]);
+    test:assertEquals([nextDay.year, nextDay.month, nextDay.day, nextDay.hour, nextDay.second],
+            [2021, 4, 13, 23, 59.25d]);
+    nextDay = utcToCivil([1618358400, 0]);
+    test:assertEquals([nextDay.year, nextDay.month, nextDay.day, nextDay.hour, nextDay.second], [2021, 4, 14, 0, 0d]);
+}
+
+@test:Config {
+    groups: ["businesscalendar"]
+}
+isolated function testBusinessCalendar() returns error? {
+    BusinessCalendar calendar = check new (holidays = [
+        {year: 2025, month: 12, day: 25},
+        {year: 2026, month: 1, day: 1}
+    ]);
+    test:assertTrue(check calendar.isBusinessDay({year: 2025, month: 12, day: 24}));
+    test:assertFalse(check calendar.isBusinessDay({year: 2025, month: 12, day: 25}));
+    test:assertFalse(check calendar.isBusinessDay({year: 2025, month: 12, day: 27}));
+
+    test:assertEquals(check calendar.addBusinessDays({year: 2025, month: 12, day: 24}, 2),
+            <Date>{year: 2025, month: 12, day: 29});
+    test:assertEquals(check calendar.addBusinessDays({year: 2025, month: 12, day: 29}, -2),
+            <Date>{year: 2025, month: 12, day: 24});
+    test:assertEquals(check calendar.addBusinessDays({year: 2025, month: 12, day: 27}, 0),
+            <Date>{year: 2025, month: 12, day: 27});
+    test:assertEquals(check calendar.addBusinessDays({year: 2025, month: 12, day: 31}, 1),
+            <Date>{year: 2026, month: 1, day: 2});
+
+    test:assertEquals(check calendar.businessDaysBetween({year: 2025, month: 12, day: 1},
+            {year: 2026, month: 1, day: 1}), 22);
+    test:assertEquals(check calendar.businessDaysBetween({year: 2026, month: 1, day: 1},
+            {year: 2025, month: 12, day: 1}), -22);
+
+    // A civil value can be used as a date.
+    Civil civil = check civilFromString("2025-12-26T10:15:30.00+05:30");
+    test:assertTrue(check calendar.isBusinessDay(civil));
+
+    BusinessCalendar middleEastCalendar = check new ([FRIDAY, SATURDAY]);
+    test:assertEquals(check middleEastCalendar.addBusinessDays({year: 2025, month: 12, day: 25}, 1),
+            <Date>{year: 2025, month: 12, day: 28});
+}
+
+@test:Config {
+    groups: ["businesscalendar"]
+}
+isolated function testBusinessCalendarWithInvalidValues() returns error? {
+    BusinessCalendar|Error calendar = new ([SUNDAY, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY, SATURDAY]);
+    test:assertTrue(calendar is Error);
+    test:assertEquals((<Error>calendar).message(),
+            "A business calendar should have at least one working day of the week");
+
+    calendar = new (holidays = [{year: 2025, month: 2, day: 29}]);
+    test:assertTrue(calendar is Error);
+
+    BusinessCalendar validCalendar = check new;
+    test:assertTrue(validCalendar.isBusinessDay({year: 2025, month: 13, day: 1}) is Error);
+    test:assertTrue(validCalendar.addBusinessDays({year: 2025, month: 1, day: 1}, int:MIN_VALUE) is Error);
+}
+
+@test:Config {}
+isolated function testUtcToCivilMulti() returns error? {
+    Utc utc = check utcFromString("2021-03-14T07:30:00.25Z");
+    Civil[] civils = check utcToCivilMulti(utc, ["Asia/Colombo", "America/New_York", "Z"]);
+    test:assertEquals(civils.length(), 3);
+    test:assertEquals(civils[0], (check new TimeZone("Asia/Colombo")).utcToCivil(utc));
+    test:assertEquals(civils[1], (check new TimeZone("America/New_York")).utcToCivil(utc));
+    test:assertEquals(civils[2], utcToCivil(utc));
+    test:assertEquals([civils[1].hour, civils[1].minute, civils[1].second], [3, 30, 0.25d]);
+
+    Zone[] zones = [check new TimeZone("Asia/Colombo"), check new TimeZone("America/New_York")];
+    test:assertEquals(check utcToCivilMulti(utc, zones), civils.slice(0, 2));
+
+    Civil[]|Error invalid = utcToCivilMulti(utc, ["Asia/Colombo", "Invalid/Zone"]);
+    test:assertTrue(invalid is Error);
+}
+
+@test:Config {}
+isolated function testUtcToCivilMatrix() returns error? {
+    Utc[] utcs = [[0, 0], check utcFromString("2021-03-14T07:30:00.25Z")];
+    string[] zones = ["Asia/Colombo", "America/New_York", "Z"];
+    Civil[][] matrix = check utcToCivilMatrix(utcs, zones);
+    test:assertEquals(matrix.length(), 2);
+    foreach int i in 0 ..< utcs.length() {
+        test:assertEquals(matrix[i], check utcToCivilMulti(utcs[i], zones));
+    }
+    test:assertEquals(check utcToCivilMatrix([], zones), []);
+    test:assertTrue(utcToCivilMatrix(utcs, ["Invalid/Zone"]) is Error);
+}
+
+@test:Config {
+    groups: ["intervalindex"]
+}
+isolated function testIntervalIndex() returns error? {
+    IntervalIndex index = check new ([
+        {'start: [1000, 0], end: [2000, 0], id: "a"},
+        {'start: [1500, 0.5], end: [1600, 0], id: "b"},
+        {'start: [3000, 0], end: [4000, 0], id: "c"}
+    ]);
+    test:assertEquals(check index.overlapping([1550, 0], [3000, 0]), ["a", "b"]);
+    test:assertEquals(check index.overlapping([1999, 0.999999999d], [3000, 0.000000001d]), ["a", "c"]);
+    test:assertEquals(check index.overlapping([2000, 0], [3000, 0]), []);
+    test:assertEquals(check index.containing([1500, 0.5]), ["a", "b"]);
+    test:assertEquals(check index.containing([2000, 0]), []);
+    test:assertEquals(check index.containing([3000, 0]), ["c"]);
+
+    check index.add([500, 0], [1000, 0.25], "d");
+    test:assertEquals(check index.containing([1000, 0]), ["d", "a"]);
+    test:assertTrue(index.remove("a"));
+    test:assertFalse(index.remove("a"));
+    test:assertEquals(check index.containing([1000, 0]), ["d"]);
+    test:assertEquals(check index.overlapping([0, 0], [5000, 0]), ["d", "b", "c"]);
+}
+
+@test:Config {
+    groups: ["intervalindex"]
+}
+isolated function testIntervalIndexWithInvalidValues() returns error? {
+    IntervalIndex|Error index = new ([{'start: [1000, 0], end: [1000, 0], id: "a"}]);
+    test:assertTrue(index is Error);
+    test:assertEquals((<Error>index).message(), "The end of the interval 'a' should be after its start");
+
+    IntervalIndex validIndex = check new ([{'start: [1000, 0], end: [2000, 0], id: "a"}]);
+    Error? result = validIndex.add([3000, 0], [4000, 0], "a");
+    test:assertTrue(result is Error);
+    test:assertEquals((<Error>result).message(), "An interval with the ID 'a' already exists");
+    test:assertTrue(validIndex.containing([int:MAX_VALUE, 1.5]) is Error);
+
+    string[]|Error ids = validIndex.overlapping([1500, 0], [1200, 0]);
+    test:assertTrue(ids is Error);
+    test:assertEquals((<Error>ids).message(), "The end of the range should be after its start");
+    ids = validIndex.overlapping([1500, 0], [1500, 0]);
+    test:assertTrue(ids is Error);
+    test:assertEquals((<Error>ids).message(), "The end of the range should be after its start");
+}
+
+@test:Config {}
+isolated function testIsValidRfc3339() {
+    test:assertTrue(isValidRfc3339("2007-12-03T10:15:30.00Z"));
+    test:assertTrue(isValidRfc3339("2021-03-05T00:33:28.839564+05:30"));
+    test:assertTrue(isValidRfc3339("2020-02-29t23:59:59z"));
+    test:assertFalse(isValidRfc3339("2021-02-29T10:15:30Z"));
+    test:assertFalse(isValidRfc3339("2021-01-01T24:00:00Z"));
+    test:assertFalse(isValidRfc3339("2021-01-01T10:15:30"));
+    test:assertFalse(isValidRfc3339("2021-01-01T10:15:30.Z"));
+    test:assertFalse(isValidRfc3339("2021-01-01T10:15:30+19:00"));
+    test:assertFalse(isValidRfc3339("2021-01-01 10:15:30Z"));
+    test:assertFalse(isValidRfc3339(""));
+
+    string timestamp = "2021-04-12T23:20:50.520+05:30";
+    test:assertTrue(isValidRfc3339(timestamp));
+    test:assertTrue(utcFromString(timestamp) is Utc);
+}
+
+@test:Config {}
+isolated function testIsValidEmailDate() {
+    test:assertTrue(isValidEmailDate("Wed, 10 Mar 2021 19:51:55 -0800 (PST)"));
+    test:assertTrue(isValidEmailDate("Wed, 10 Mar 2021 19:51:55 -0800"));
+    test:assertTrue(isValidEmailDate("Thu, 1 Jan 1970 00:00:00 +0000 (GMT)"));
+    test:assertFalse(isValidEmailDate("Thu, 10 Mar 2021 19:51:55 -0800"));
+    test:assertFalse(isValidEmailDate("Wed, 10 Mar 2021 19:51 -0800"));
+    test:assertFalse(isValidEmailDate("Wed, 10 Mar 2021 19:51:55 -0800 (Invalid)"));
+    test:assertFalse(isValidEmailDate("Mon, 29 Feb 2021 19:51:55 -0800"));
+    test:assertFalse(isValidEmailDate("2021-03-10T19:51:55-08:00"));
+
+    string dateTimeString = utcToEmailString([1617889033, 0]);
+    test:assertTrue(isValidEmailDate(dateTimeString));
+    test:assertTrue(civilFromEmailString(dateTimeString) is Civil);
+}
+
+@test:Config {}
+isolated function testIsValidDate() {
+    test:assertTrue(isValidDate({year: 2020, month: 2, day: 29}));
+    test:assertFalse(isValidDate({year: 2021, month: 2, day: 29}));
+    test:assertFalse(isValidDate({year: 2021, month: 13, day: 1}));
+    test:assertFalse(isValidDate({year: 2021, month: 1, day: 0}));
+    test:assertFalse(isValidDate({year: int:MAX_VALUE, month: 1, day: 1}));
+}
+
+@test:Config {
+    groups: ["windowaggregator"]
+}
+isolated function testWindowAggregatorSlidingWindows() returns error? {
+    WindowAggregator aggregator = check new (60, slide = 10);
+    test:assertTrue(check aggregator.add("a", [1000, 0], 5.0));
+    test:assertTrue(check aggregator.add("a", [1025, 0.5], 2.0));
+    test:assertTrue(check aggregator.add("b", [1030, 0], 7.0));
+    test:assertTrue(check aggregator.add("a", [1059, 0.999], 9.0));
+
+    WindowAggregate aggregate = check aggregator.query("a");
+    test:assertEquals(aggregate, {count: 3, sum: 16.0, min: 2.0, max: 9.0});
+    test:assertEquals(check aggregator.query("b"), {count: 1, sum: 7.0, min: 7.0, max: 7.0});
+
+    test:assertTrue(check aggregator.add("a", [1065, 0], 1.0));
+    test:assertEquals(check aggregator.query("a"), {count: 3, sum: 12.0, min: 1.0, max: 9.0});
+    test:assertTrue(aggregator.query("a", [1059, 0]) is Error);
+    test:assertEquals(check aggregator.query("c"), {count: 0, sum: 0.0, min: (), max: ()});
+}
+
+@test:Config {
+    groups: ["windowaggregator"]
+}
+isolated function testWindowAggregatorTumblingWindows() returns error? {
+    WindowAggregator aggregator = check new (60);
+    test:assertTrue(check aggregator.add("a", [1200, 0]));
+    test:assertTrue(check aggregator.add("a", [1259, 0]));
+    test:assertTrue(check aggregator.add("a", [1260, 0]));
+    test:assertEquals((check aggregator.query("a")).count, 1);
+    test:assertTrue(aggregator.query("a", [1230, 0]) is Error);
+}
+
+@test:Config {
+    groups: ["windowaggregator"]
+}
+isolated function testWindowAggregatorLateEvents() returns error? {
+    WindowAggregator aggregator = check new (60, allowedLateness = 30);
+    test:assertTrue(check aggregator.add("a", [1200, 0], 3.0));
+    test:assertTrue(check aggregator.add("a", [1270, 0], 4.0));
+    test:assertTrue(check aggregator.add("a", [1250, 0], 5.0));
+    test:assertEquals(check aggregator.query("a", [1200, 0]), {count: 2, sum: 8.0, min: 3.0, max: 5.0});
+
+    test:assertTrue(check aggregator.add("a", [1330, 0], 6.0));
+    test:assertFalse(check aggregator.add("a", [1210, 0], 7.0));
+    WindowAggregate|Error aggregate = aggregator.query("a", [1200, 0]);
+    test:assertTrue(aggregate is Error);
+    test:assertEquals((<Error>aggregate).message(),
+            "The window has been evicted, since it ended more than the allowed lateness before the latest event time");
+}
+
+@test:Config {
+    groups: ["windowaggregator"]
+}
+isolated function testWindowAggregatorWithFarFutureEvent() returns error? {
+    WindowAggregator aggregator = check new (60, slide = 10);
+    test:assertTrue(check aggregator.add("a", [1200, 0], 3.0));
+    test:assertTrue(check aggregator.add("b", [4102444800, 0], 100.0));
+    test:assertTrue(check aggregator.add("a", [1210, 0], 4.0));
+    test:assertEquals(check aggregator.query("a"), {count: 2, sum: 7.0, min: 3.0, max: 4.0});
+    test:assertEquals(check aggregator.query("a", [1200, 0]), {count: 1, sum: 3.0, min: 3.0, max: 3.0});
+    test:assertEquals(check aggregator.query("b"), {count: 1, sum: 100.0, min: 100.0, max: 100.0});
+    test:assertFalse(check aggregator.add("b", [1200, 0], 5.0));
+}
+
+@test:Config {
+    groups: ["windowaggregator"]
+}
+isolated function testWindowAggregatorWithInvalidValues() {
+    WindowAggregator|Error aggregator = new (60, slide = 25);
+    test:assertTrue(aggregator is Error);
+    test:assertEquals((<Error>aggregator).message(), "The window should be a multiple of the slide");
+
+    aggregator = new (60, allowedLateness = -1);
+    test:assertTrue(aggregator is Error);
+    test:assertEquals((<Error>aggregator).message(), "The allowed lateness should not be negative");
+
+    aggregator = new (0);
+    test:assertTrue(aggregator is Error);
+    test:assertEquals((<Error>aggregator).message(), "The window and the slide should be positive");
+
+    aggregator = new (4097, slide = 1);
+    test:assertTrue(aggregator is Error);
+    test:assertEquals((<Error>aggregator).message(),
+            "The window and the allowed lateness should be at most 4096 times the slide");
+}
+
+@test:Config {
+    groups: ["ratelimiter"]
+}
+isolated function testRateLimiterTryAcquire() returns error? {
+    RateLimiter limiter = check new (0.5, burst = 3);
+    test:assertTrue(check limiter.tryAcquire());
+    test:assertTrue(check limiter.tryAcquire(2));
+    test:assertFalse(check limiter.tryAcquire());
+
+    boolean|Error result = limiter.tryAcquire(4);
+    test:assertTrue(result is Error);
+    test:assertEquals((<Error>result).message(), "The number of permits should be between 1 and the burst of 3");
+}
+
+@test:Config {
+    groups: ["ratelimiter"]
+}
+isolated function testRateLimiterAcquireDeadline() returns error? {
+    RateLimiter limiter = check new (1, burst = 2);
+    test:assertTrue((check limiter.acquireDeadline(2)).isExpired());
+    Deadline deadline = check limiter.acquireDeadline();
+    test:assertFalse(deadline.isExpired());
+    test:assertTrue(deadline.remaining() <= 1d);
+    Deadline nextDeadline = check limiter.acquireDeadline();
+    test:assertTrue(nextDeadline.remaining() > 1d && nextDeadline.remaining() <= 2d);
+    test:assertFalse(check limiter.tryAcquire());
+    test:assertTrue(limiter.acquireDeadline(0) is Error);
+}
+
+@test:Config {
+    groups: ["ratelimiter"]
+}
+isolated function testRateLimiterWithInvalidValues() {
+    RateLimiter|Error limiter = new (0);
+    test:assertTrue(limiter is Error);
+    test:assertEquals((<Error>limiter).message(),
+            "The rate should be positive and at most one billion permits per second");
+
+    limiter = new (10, burst = 0);
+    test:assertTrue(limiter is Error);
+    test:assertEquals((<Error>limiter).message(), "The burst should be positive");
+}
+
+@test:Config {
+    groups: ["timerwheel"]
+}
+isolated function testTimerWheelExpired() returns error? {
+    TimerWheel wheel = check new (tick = 0.01, wheelSize = 64);
+    wheel.schedule("a", 0);
+    wheel.schedule("b", 3600);
+    wheel.schedule("c", utcAddSeconds(utcNow(), -10));
+    wheel.schedule("d", [int:MAX_VALUE, 0]);
+    wheel.schedule("e", new Deadline(0));
+    wheel.schedule("f", deadlineAfter(86400));
+    test:assertEquals(wheel.size(), 6);
+
+    string[] expiredKeys = wheel.expired();
+    test:assertEquals(expiredKeys.sort(), ["a", "c", "e"]);
+    test:assertEquals(wheel.size(), 3);
+    test:assertEquals(wheel.expired(), []);
+}
+
+@test:Config {
+    groups: ["timerwheel"]
+}
+isolated function testTimerWheelCancelAndReschedule() returns error? {
+    TimerWheel wheel = check new;
+    wheel.schedule("a", 60);
+    wheel.schedule("b", 60);
+    test:assertTrue(wheel.cancel("a"));
+    test:assertFalse(wheel.cancel("a"));
+    test:assertFalse(wheel.cancel("unknown"));
+
+    wheel.schedule("b", -1);
+    test:assertEquals(wheel.size(), 1);
+    test:assertEquals(wheel.expired(), ["b"]);
+    test:assertFalse(wheel.cancel("b"));
+    test:assertEquals(wheel.size(), 0);
+}
+
+@test:Config {
+    groups: ["timerwheel"]
+}
+isolated function testTimerWheelWithInvalidValues() {
+    TimerWheel|Error wheel = new (tick = 0);
+    test:assertTrue(wheel is Error);
+    test:assertEquals((<Error>wheel).message(), "The tick should be at least one nanosecond");
+
+    wheel = new (wheelSize = 100);
+    test:assertTrue(wheel is Error);
+    test:assertEquals((<Error>wheel).message(), "The wheel size should be a power of two between 2 and 65536");
+}
+
+@test:Config {}
+isolated function testDateAddDays() returns error? {
+    test:assertEquals(check dateAddDays({year: 2020, month: 2, day: 28}, 1), {year: 2020, month: 2, day: 29});
+    test:assertEquals(check dateAddDays({year: 2021, month: 12, day: 31}, 1), {year: 2022, month: 1, day: 1});
+    test:assertEquals(check dateAddDays({year: 2021, month: 3, day: 1}, -1), {year: 2021, month: 2, day: 28});
+    test:assertEquals(check dateAddDays({year: 1994, month: 11, day: 7, hour: 10, minute: 30}, 30),
+            {year: 1994, month: 12, day: 7});
+
+    Date|Error result = dateAddDays({year: 2021, month: 2, day: 29}, 1);
+    test:assertTrue(result is Error);
+    test:assertEquals((<Error>result).message(), "Invalid date 'February 29' as '2021' is not a leap year");
+    test:assertTrue(dateAddDays({year: 2021, month: 1, day: 1}, int:MAX_VALUE) is Error);
+}
+
+@test:Config {}
+isolated function testDateAddMonths() returns error? {
+    test:assertEquals(check dateAddMonths({year: 2021, month: 1, day: 31}, 1), {year: 2021, month: 2, day: 28});
+    test:assertEquals(check dateAddMonths({year: 2020, month: 1, day: 31}, 1), {year: 2020, month: 2, day: 29});
+    test:assertEquals(check dateAddMonths({year: 2021, month: 11, day: 15}, 14), {year: 2023, month: 1, day: 15});
+    test:assertEquals(check dateAddMonths({year: 2021, month: 3, day: 31}, -13), {year: 2020, month: 2, day: 29});
+    test:assertTrue(dateAddMonths({year: 2021, month: 1, day: 1}, int:MAX_VALUE) is Error);
+}
+
+@test:Config {}
+isolated function testDateDiffDays() returns error? {
+    test:assertEquals(check dateDiffDays({year: 1994, month: 12, day: 25}, {year: 1994, month: 11, day: 7}), 48);
+    test:assertEquals(check dateDiffDays({year: 2020, month: 1, day: 1}, {year: 2021, month: 1, day: 1}), -366);
+    test:assertEquals(check dateDiffDays({year: 2021, month: 4, day: 12}, {year: 2021, month: 4, day: 12}), 0);
+    test:assertTrue(dateDiffDays({year: 2021, month: 4, day: 31}, {year: 2021, month: 4, day: 12}) is Error);
+}
+
+@test:Config {}
+isolated function testDateEpochDayConversions() returns error? {
+    test:assertEquals(check dateToEpochDay({year: 1970, month: 1, day: 1}), 0);
+    test:assertEquals(check dateToEpochDay({year: 1994, month: 11, day: 7}), 9076);
+    test:assertEquals(check dateToEpochDay({year: 1969, month: 12, day: 31}), -1);
+    test:assertEquals(check dateFromEpochDay(9076), {year: 1994, month: 11, day: 7});
+    test:assertEquals(check dateFromEpochDay(-719528), {year: 0, month: 1, day: 1});
+    test:assertEquals(check dateToEpochDay(check dateFromEpochDay(18729)), 18729);
+    test:assertTrue(dateToEpochDay({year: 2021, month: 13, day: 1}) is Error);
+    test:assertTrue(dateFromEpochDay(int:MAX_VALUE) is Error);
+}
+
+@test:Config {}
+isolated function testDateStringConversions() returns error? {
+    test:assertEquals(check dateFromString("1994-11-07"), {year: 1994, month: 11, day: 7});
+    test:assertEquals(check dateFromString("+10000-01-01"), {year: 10000, month: 1, day: 1});
+    test:assertEquals(check dateFromString("-0044-03-15"), {year: -44, month: 3, day: 15});
+    test:assertEquals(check dateToString({year: 1994, month: 11, day: 7}), "1994-11-07");
+    test:assertEquals(check dateToString({year: 10000, month: 1, day: 1}), "+10000-01-01");
+    test:assertEquals(check dateToString({year: -44, month: 3, day: 15}), "-0044-03-15");
+    test:assertEquals(check dateToString({year: 5, month: 1, day: 1}), "0005-01-01");
+
+    Date|Error date = dateFromString("1994-11-7");
+    test:assertTrue(date is Error);
+    test:assertEquals((<Error>date).message(), "The date '1994-11-7' is not in the ISO 8601 form of yyyy-mm-dd");
+    test:assertTrue(dateFromString("2021-02-29") is Error);
+    Date|Error signedDate = dateFromString("+2021-01-01");
+    test:assertTrue(signedDate is Error);
+    test:assertEquals((<Error>signedDate).message(),
+            "The date '+2021-01-01' is not in the ISO 8601 form of yyyy-mm-dd");
+    test:assertTrue(dateFromString("2021-04-12T10:00:00Z") is Error);
+    test:assertTrue(dateToString({year: 2021, month: 2, day: 30}) is Error);
+}
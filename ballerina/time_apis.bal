@@ -95,6 +95,63 @@ public isolated function utcDiffSeconds(Utc utc1, Utc utc2) returns Seconds {
     return externUtcDiffSeconds(utc1, utc2);
 }
 
+# Compares two UTC times.
+# ```ballerina
+# int result = time:utcCompare(time:utcNow(), check time:utcFromString("2021-04-12T23:20:50.520Z"));
+# ```
+# + utc1 - 1st UTC time as a tuple `[int, decimal]`, where the first element is the seconds from the epoch
+#         and the second element is the fractional part of the last second.
+# + utc2 - 2nd UTC time as a tuple `[int, decimal]`, where the first element is the seconds from the epoch
+#         and the second element is the fractional part of the last second.
+# + return - A negative value if `utc1` is before `utc2`, zero if they are equal, or a positive value otherwise
+public isolated function utcCompare(Utc utc1, Utc utc2) returns int {
+    return externUtcCompare(utc1, utc2);
+}
+
+# Returns the earliest of the given UTC times.
+# ```ballerina
+# time:Utc earliest = time:utcMin(utc1, utc2, utc3);
+# ```
+# + utc - A UTC time
+# + utcs - The other UTC times
+# + return - The earliest UTC time, which is the first of them if several are equal
+public isolated function utcMin(Utc utc, Utc... utcs) returns Utc {
+    return externUtcMin(utc, utcs);
+}
+
+# Returns the latest of the given UTC times.
+# ```ballerina
+# time:Utc latest = time:utcMax(utc1, utc2, utc3);
+# ```
+# + utc - A UTC time
+# + utcs - The other UTC times
+# + return - The latest UTC time, which is the first of them if several are equal
+public isolated function utcMax(Utc utc, Utc... utcs) returns Utc {
+    return externUtcMax(utc, utcs);
+}
+
+# Sorts the given UTC times in ascending order.
+# The sort is stable and the given array is not modified.
+# ```ballerina
+# time:Utc[] sorted = time:utcSort(events);
+# ```
+# + utcs - The UTC times to be sorted
+# + return - A new array with the given UTC times in ascending order
+public isolated function utcSort(Utc[] utcs) returns Utc[] {
+    return externUtcSort(utcs);
+}
+
+# Merges arrays of UTC times that are each sorted in ascending order.
+# Equal UTC times keep the order of the arrays that they belong to.
+# ```ballerina
+# time:Utc[]|time:Error merged = time:utcMergeSorted([buffer1, buffer2, buffer3]);
+# ```
+# + utcLists - The sorted arrays of UTC times
+# + return - A new array with all the UTC times in ascending order or an error if one of the arrays is not sorted
+public isolated function utcMergeSorted(Utc[][] utcLists) returns Utc[]|Error {
+    return externUtcMergeSorted(utcLists);
+}
+
 # Validates whether the given date is within the range of Gregorian calendar rules.
 # ```ballerina
 # time:Date date = {year: 1994, month: 11, day: 7};
@@ -118,6 +175,126 @@ public isolated function dayOfWeek(Date date) returns DayOfWeek {
     return daysOfWeek[checkpanic externDayOfWeek(date)];
 }
 
+# Checks whether a given string is an RFC 3339 timestamp (e.g., `2007-12-03T10:15:30.00Z`) without converting it.
+# The check is done in a single pass and does not allocate, which makes it cheaper than `time:utcFromString`.
+# The seconds and the zone offset are required, the fraction of the second can have up to nine digits, and the
+# offset should be within ±18:00. A string for which this returns `true` can be converted with `time:utcFromString`
+# and `time:civilFromString`.
+# ```ballerina
+# boolean isValid = time:isValidRfc3339("2007-12-03T10:15:30.00Z");
+# ```
+# + timestamp - The string to be checked
+# + return - `true` if the string is a valid RFC 3339 timestamp or else `false`
+public isolated function isValidRfc3339(string timestamp) returns boolean {
+    return externIsValidRfc3339(timestamp);
+}
+
+# Checks whether a given string is an RFC 5322 date and time (e.g., `Wed, 10 Mar 2021 19:51:55 -0800 (PST)`)
+# without converting it. The check is done in a single pass and does not allocate, which makes it cheaper than
+# `time:civilFromEmailString`. The day of the week should be the one of the date, and the optional comment should
+# be the name of a time zone. A string for which this returns `true` can be converted with
+# `time:civilFromEmailString`.
+# ```ballerina
+# boolean isValid = time:isValidEmailDate("Wed, 10 Mar 2021 19:51:55 -0800 (PST)");
+# ```
+# + dateTimeString - The string to be checked
+# + return - `true` if the string is a valid RFC 5322 date and time or else `false`
+public isolated function isValidEmailDate(string dateTimeString) returns boolean {
+    return externIsValidEmailDate(dateTimeString);
+}
+
+# Checks whether the given date is within the range of Gregorian calendar rules like `time:dateValidate`, but
+# returns a `boolean` instead of creating an error.
+# ```ballerina
+# boolean isValid = time:isValidDate({year: 1994, month: 11, day: 7});
+# ```
+# + date - The date to be checked
+# + return - `true` if the date is valid or else `false`
+public isolated function isValidDate(Date date) returns boolean {
+    return externIsValidDate(date.year, date.month, date.day);
+}
+
+# Returns the number of days from 1970-01-01 to the given date.
+# The date functions use integer calendar arithmetic and ignore the time of day and the offset fields of a date.
+# ```ballerina
+# int epochDay = check time:dateToEpochDay({year: 1994, month: 11, day: 7});
+# ```
+# + date - The date
+# + return - The number of days from 1970-01-01, which is negative for earlier dates, or else a `time:Error` if the
+# date is invalid
+public isolated function dateToEpochDay(Date date) returns int|Error {
+    return externDateToEpochDay(date.year, date.month, date.day);
+}
+
+# Returns the date of the given number of days from 1970-01-01.
+# ```ballerina
+# time:Date date = check time:dateFromEpochDay(9076);
+# ```
+# + epochDay - The number of days from 1970-01-01, which is negative for earlier dates
+# + return - The date or else a `time:Error` if its year is out of the supported range
+public isolated function dateFromEpochDay(int epochDay) returns Date|Error {
+    return externDateFromEpochDay(epochDay);
+}
+
+# Adds the given number of days to a date.
+# ```ballerina
+# time:Date date = check time:dateAddDays({year: 1994, month: 11, day: 7}, 30);
+# ```
+# + date - The date
+# + days - The number of days to be added, which is negative to subtract days
+# + return - The resulting date or else a `time:Error` if the date is invalid or the result is out of the supported
+# range
+public isolated function dateAddDays(Date date, int days) returns Date|Error {
+    return externDateAddDays(date.year, date.month, date.day, days);
+}
+
+# Adds the given number of months to a date. The day is reduced to the last day of the resulting month if the month
+# is shorter (e.g., adding a month to 2021-01-31 results in 2021-02-28).
+# ```ballerina
+# time:Date date = check time:dateAddMonths({year: 1994, month: 11, day: 7}, 3);
+# ```
+# + date - The date
+# + months - The number of months to be added, which is negative to subtract months
+# + return - The resulting date or else a `time:Error` if the date is invalid or the result is out of the supported
+# range
+public isolated function dateAddMonths(Date date, int months) returns Date|Error {
+    return externDateAddMonths(date.year, date.month, date.day, months);
+}
+
+# Returns the number of days from one date to another.
+# This will be positive if `date1` occurs after `date2`.
+# ```ballerina
+# int days = check time:dateDiffDays({year: 1994, month: 12, day: 25}, {year: 1994, month: 11, day: 7});
+# ```
+# + date1 - The 1st date
+# + date2 - The 2nd date
+# + return - The number of days from `date2` to `date1` or else a `time:Error` if a date is invalid
+public isolated function dateDiffDays(Date date1, Date date2) returns int|Error {
+    return externDateDiffDays(date1.year, date1.month, date1.day, date2.year, date2.month, date2.day);
+}
+
+# Converts an ISO 8601 date string (e.g., `1994-11-07`) to a date. A year that does not have four digits is
+# preceded by its sign (e.g., `+10000-01-01`), and a positive year of four digits has no sign.
+# ```ballerina
+# time:Date date = check time:dateFromString("1994-11-07");
+# ```
+# + dateString - The date string in the form of `yyyy-mm-dd`
+# + return - The date or else a `time:Error` if the string is not a valid date
+public isolated function dateFromString(string dateString) returns Date|Error {
+    return externDateFromString(dateString);
+}
+
+# Converts a date to its ISO 8601 string (e.g., `1994-11-07`). A year that does not have four digits is preceded by
+# its sign (e.g., `+10000-01-01`).
+# ```ballerina
+# string dateString = check time:dateToString({year: 1994, month: 11, day: 7});
+# ```
+# + date - The date
+# + return - The date string in the form of `yyyy-mm-dd` or else a `time:Error` if the date is invalid
+public isolated function dateToString(Date date) returns string|Error {
+    return externDateToString(date.year, date.month, date.day);
+}
+
 # Converts a given UTC timestamp to a civil value.
 # ```ballerina
 # time:Utc utc = time:utcNow();
@@ -130,6 +307,104 @@ public isolated function utcToCivil(Utc utc) returns Civil {
     return externUtcToCivil(utc);
 }
 
+# Returns the calendar date of a given UTC timestamp in a time zone.
+# This computes only the date fields, which is cheaper than converting the timestamp to a civil value.
+# ```ballerina
+# time:Date date = time:utcToDate(time:utcNow(), check new time:TimeZone("Asia/Colombo"));
+# ```
+# + utc - The UTC time as a tuple `[int, decimal]`, where the first element is the seconds from the epoch
+#         and the second element is the fractional part of the last second.
+# + zone - The time zone or nil to use UTC
+# + return - The date in the time zone
+public isolated function utcToDate(Utc utc, Zone? zone = ()) returns Date {
+    if zone is () || zone is TimeZone {
+        return externUtcToDate(utc, zone);
+    }
+    Civil civil = zone.utcToCivil(utc);
+    return {year: civil.year, month: civil.month, day: civil.day};
+}
+
+# Returns the time of day of a given UTC timestamp in a time zone.
+# This computes only the time fields, which is cheaper than converting the timestamp to a civil value.
+# ```ballerina
+# time:TimeOfDay timeOfDay = time:utcToTimeOfDay(time:utcNow(), check new time:TimeZone("Asia/Colombo"));
+# ```
+# + utc - The UTC time as a tuple `[int, decimal]`, where the first element is the seconds from the epoch
+#         and the second element is the fractional part of the last second.
+# + zone - The time zone or nil to use UTC
+# + return - The time of day in the time zone
+public isolated function utcToTimeOfDay(Utc utc, Zone? zone = ()) returns TimeOfDay {
+    if zone is () || zone is TimeZone {
+        return externUtcToTimeOfDay(utc, zone);
+    }
+    Civil civil = zone.utcToCivil(utc);
+    return {hour: civil.hour, minute: civil.minute, second: civil?.second ?: 0.0};
+}
+
+# Returns the number of days from 1970-01-01 to the calendar date of a given UTC timestamp in a time zone.
+# The result is an `int`, which makes it a cheap key for daily partitions and quotas.
+# ```ballerina
+# int epochDay = time:utcToEpochDay(time:utcNow(), check new time:TimeZone("Asia/Colombo"));
+# ```
+# + utc - The UTC time as a tuple `[int, decimal]`, where the first element is the seconds from the epoch
+#         and the second element is the fractional part of the last second.
+# + zone - The time zone or nil to use UTC
+# + return - The number of days from 1970-01-01, which is negative for earlier dates
+public isolated function utcToEpochDay(Utc utc, Zone? zone = ()) returns int {
+    if zone is () || zone is TimeZone {
+        return externUtcToEpochDay(utc, zone);
+    }
+    Civil civil = zone.utcToCivil(utc);
+    return checkpanic externDateToEpochDay(civil.year, civil.month, civil.day);
+}
+
+# Converts a given UTC timestamp to civil values in several time zones.
+# The timestamp is decoded once, and the zones given as IDs are resolved from a cache.
+# ```ballerina
+# time:Civil[] civils = check time:utcToCivilMulti(time:utcNow(), ["Asia/Colombo", "America/New_York", "Z"]);
+# ```
+# + utc - The UTC time as a tuple `[int, decimal]`, where the first element is the seconds from the epoch
+#         and the second element is the fractional part of the last second.
+# + zones - The time zones or their IDs
+# + return - The civil values in the order of the zones or an error if a zone ID is invalid
+public isolated function utcToCivilMulti(Utc utc, Zone[]|string[] zones) returns Civil[]|Error {
+    if zones is Zone[] && !isTimeZoneArray(zones) {
+        Civil[] civils = [];
+        foreach Zone zone in zones {
+            civils.push(zone.utcToCivil(utc));
+        }
+        return civils;
+    }
+    return externUtcToCivilMulti(utc, zones);
+}
+
+# Converts each of the given UTC timestamps to civil values in several time zones.
+# ```ballerina
+# time:Civil[][] civils = check time:utcToCivilMatrix([time:utcNow(), [0, 0]], ["Asia/Colombo", "Z"]);
+# ```
+# + utcs - The UTC timestamps
+# + zones - The time zones or their IDs
+# + return - A row of civil values in the order of the zones for each timestamp or an error if a zone ID is invalid
+public isolated function utcToCivilMatrix(Utc[] utcs, Zone[]|string[] zones) returns Civil[][]|Error {
+    if zones is Zone[] && !isTimeZoneArray(zones) {
+        Civil[][] civils = [];
+        foreach Utc utc in utcs {
+            civils.push(check utcToCivilMulti(utc, zones));
+        }
+        return civils;
+    }
+    return externUtcToCivilMatrix(utcs, zones);
+}
+
+isolated function isTimeZoneArray(Zone[] zones) returns boolean {
+    foreach Zone zone in zones {
+        if zone !is TimeZone {
+            return false;
+        }
+    }
+    return true;
+}
+
 # Converts a given civil value to a UTC timestamp.
 # ```ballerina
 # time:Civil civil = time:utcToCivil(time:utcNow());
@@ -312,6 +587,31 @@ isolated function externUtcDiffSeconds(Utc utc1, Utc utc2) returns Seconds = @ja
     'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
 } external;
 
+isolated function externUtcCompare(Utc utc1, Utc utc2) returns int = @java:Method {
+    name: "externUtcCompare",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
+isolated function externUtcMin(Utc utc, Utc[] utcs) returns Utc = @java:Method {
+    name: "externUtcMin",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
+isolated function externUtcMax(Utc utc, Utc[] utcs) returns Utc = @java:Method {
+    name: "externUtcMax",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
+isolated function externUtcSort(Utc[] utcs) returns Utc[] = @java:Method {
+    name: "externUtcSort",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
+isolated function externUtcMergeSorted(Utc[][] utcLists) returns Utc[]|Error = @java:Method {
+    name: "externUtcMergeSorted",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
 isolated function externDateValidate(Date date) returns Error? = @java:Method {
     name: "externDateValidate",
     'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
@@ -322,11 +622,87 @@ isolated function externDayOfWeek(Date date) returns int|Error = @java:Method {
     'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
 } external;
 
+isolated function externIsValidRfc3339(string timestamp) returns boolean = @java:Method {
+    name: "externIsValidRfc3339",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
+isolated function externIsValidEmailDate(string dateTimeString) returns boolean = @java:Method {
+    name: "externIsValidEmailDate",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
+isolated function externIsValidDate(int year, int month, int day) returns boolean = @java:Method {
+    name: "externIsValidDate",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
 isolated function externUtcToCivil(Utc utc) returns Civil = @java:Method {
     name: "externUtcToCivil",
     'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
 } external;
 
+isolated function externUtcToCivilMulti(Utc utc, Zone[]|string[] zones) returns Civil[]|Error = @java:Method {
+    name: "externUtcToCivilMulti",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
+isolated function externUtcToCivilMatrix(Utc[] utcs, Zone[]|string[] zones) returns Civil[][]|Error = @java:Method {
+    name: "externUtcToCivilMatrix",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
+isolated function externUtcToDate(Utc utc, TimeZone? zone) returns Date = @java:Method {
+    name: "externUtcToDate",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
+isolated function externUtcToTimeOfDay(Utc utc, TimeZone? zone) returns TimeOfDay = @java:Method {
+    name: "externUtcToTimeOfDay",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
+isolated function externUtcToEpochDay(Utc utc, TimeZone? zone) returns int = @java:Method {
+    name: "externUtcToEpochDay",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
+isolated function externDateToEpochDay(int year, int month, int day) returns int|Error = @java:Method {
+    name: "externDateToEpochDay",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
+isolated function externDateFromEpochDay(int epochDay) returns Date|Error = @java:Method {
+    name: "externDateFromEpochDay",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
+isolated function externDateAddDays(int year, int month, int day, int days) returns Date|Error = @java:Method {
+    name: "externDateAddDays",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
+isolated function externDateAddMonths(int year, int month, int day, int months) returns Date|Error = @java:Method {
+    name: "externDateAddMonths",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
+isolated function externDateDiffDays(int year1, int month1, int day1, int year2, int month2, int day2)
+        returns int|Error = @java:Method {
+    name: "externDateDiffDays",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
+isolated function externDateFromString(string dateString) returns Date|Error = @java:Method {
+    name: "externDateFromString",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
+isolated function externDateToString(int year, int month, int day) returns string|Error = @java:Method {
+    name: "externDateToString",
+    'class: "io.ballerina.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
 isolated function externUtcFromCivil(int year, int month, int day, int hour, int minute, decimal second, int zoneHour,
         int zoneMinute, decimal zoneSecond) returns Utc|Error = @java:Method {
     name: "externUtcFromCivil",
@@ -0,0 +1,93 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Calendar of business days, which are the days that are neither weekend days nor holidays.
+# The business days of each year are kept in a bitset, so checking a day, adding business days, and counting the
+# business days between two dates do not iterate day by day. A business calendar is immutable, so it can be shared
+# between strands. The dates are calendar dates, so a `Civil` value can be used as a date and a UTC value can be
+# converted to the date of a time zone using `time:utcToDate`.
+public readonly class BusinessCalendar {
+
+    # Creates a business calendar.
+    # ```ballerina
+    # time:BusinessCalendar calendar = check new ([time:FRIDAY, time:SATURDAY], [{year: 2025, month: 12, day: 25}]);
+    # ```
+    # + weekendDays - The days of the week that are not business days
+    # + holidays - The dates that are not business days
+    # + return - A `time:Error` if a holiday is an invalid date or all the days of the week are weekend days,
+    # otherwise nil
+    public isolated function init(DayOfWeek[] weekendDays = [SATURDAY, SUNDAY], Date[] holidays = []) returns Error? {
+        return externBusinessCalendarInit(self, weekendDays, holidays);
+    }
+
+    # Checks whether the given date is a business day.
+    # ```ballerina
+    # boolean|time:Error isBusinessDay = calendar.isBusinessDay({year: 2025, month: 12, day: 25});
+    # ```
+    # + date - The date to be checked
+    # + return - `true` if the date is a business day, `false` otherwise, or a `time:Error` if the date is invalid
+    public isolated function isBusinessDay(Date date) returns boolean|Error {
+        return externBusinessCalendarIsBusinessDay(self, date.year, date.month, date.day);
+    }
+
+    # Returns the business day that is the given number of business days after the given date, or before it if the
+    # number is negative. The given date does not need to be a business day, and zero days return the given date.
+    # ```ballerina
+    # time:Date|time:Error settlementDate = calendar.addBusinessDays({year: 2025, month: 12, day: 24}, 2);
+    # ```
+    # + date - The date to start from
+    # + days - The number of business days to be added
+    # + return - The resulting business day or a `time:Error` if the given date is invalid or the resulting date is
+    # out of the supported range
+    public isolated function addBusinessDays(Date date, int days) returns Date|Error {
+        return externBusinessCalendarAddBusinessDays(self, date.year, date.month, date.day, days);
+    }
+
+    # Returns the number of business days from the start date (inclusive) to the end date (exclusive).
+    # ```ballerina
+    # int|time:Error days = calendar.businessDaysBetween(startDate, endDate);
+    # ```
+    # + startDate - The start date (inclusive)
+    # + endDate - The end date (exclusive)
+    # + return - The number of business days, which is negative if the end date is before the start date, or a
+    # `time:Error` if a date is invalid
+    public isolated function businessDaysBetween(Date startDate, Date endDate) returns int|Error {
+        return externBusinessCalendarBusinessDaysBetween(self, startDate.year, startDate.month, startDate.day,
+                endDate.year, endDate.month, endDate.day);
+    }
+}
+
+isolated function externBusinessCalendarInit(BusinessCalendar calendar, DayOfWeek[] weekendDays, Date[] holidays)
+        returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.BusinessCalendarExternUtils"
+} external;
+
+isolated function externBusinessCalendarIsBusinessDay(BusinessCalendar calendar, int year, int month, int day)
+        returns boolean|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.BusinessCalendarExternUtils"
+} external;
+
+isolated function externBusinessCalendarAddBusinessDays(BusinessCalendar calendar, int year, int month, int day,
+        int days) returns Date|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.BusinessCalendarExternUtils"
+} external;
+
+isolated function externBusinessCalendarBusinessDaysBetween(BusinessCalendar calendar, int startYear, int startMonth,
+        int startDay, int endYear, int endMonth, int endDay) returns int|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.BusinessCalendarExternUtils"
+} external;
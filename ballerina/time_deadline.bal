@@ -0,0 +1,100 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Point in time on the monotonic clock after which an operation should not continue.
+# A deadline is immutable, so it can be passed between strands, and checking it neither allocates nor does any
+# decimal arithmetic.
+public readonly class Deadline {
+
+    # Creates a deadline that expires after the given number of seconds from now.
+    # A zero or negative timeout creates a deadline that has already expired.
+    # ```ballerina
+    # time:Deadline deadline = new (2.5);
+    # ```
+    # + timeout - The number of seconds until the deadline expires
+    public isolated function init(Seconds timeout) {
+        externDeadlineInit(self, timeout);
+    }
+
+    # Returns the number of seconds left until the deadline expires.
+    # ```ballerina
+    # time:Seconds remaining = deadline.remaining();
+    # ```
+    # + return - The remaining seconds or zero if the deadline has expired
+    public isolated function remaining() returns Seconds {
+        return externDeadlineRemaining(self);
+    }
+
+    # Checks whether the deadline has expired.
+    # ```ballerina
+    # boolean expired = deadline.isExpired();
+    # ```
+    # + return - `true` if the deadline has expired, otherwise `false`
+    public isolated function isExpired() returns boolean {
+        return externDeadlineIsExpired(self);
+    }
+
+    # Returns the earlier of this deadline and the given deadline.
+    # ```ballerina
+    # time:Deadline callDeadline = deadline.min(time:deadlineAfter(1));
+    # ```
+    # + other - The deadline to be compared with
+    # + return - The deadline that expires first
+    public isolated function min(Deadline other) returns Deadline {
+        return externDeadlineMin(self, other);
+    }
+
+    # Converts the deadline to the UTC time at which it expires according to the current system clock.
+    # ```ballerina
+    # time:Utc expiry = deadline.toUtc();
+    # ```
+    # + return - The UTC time at which the deadline expires
+    public isolated function toUtc() returns Utc {
+        return externDeadlineToUtc(self);
+    }
+}
+
+# Creates a deadline that expires after the given number of seconds from now.
+# ```ballerina
+# time:Deadline deadline = time:deadlineAfter(2.5);
+# ```
+# + timeout - The number of seconds until the deadline expires
+# + return - The deadline
+public isolated function deadlineAfter(Seconds timeout) returns Deadline {
+    return new (timeout);
+}
+
+isolated function externDeadlineInit(Deadline deadline, Seconds timeout) = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.DeadlineExternUtils"
+} external;
+
+isolated function externDeadlineRemaining(Deadline deadline) returns Seconds = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.DeadlineExternUtils"
+} external;
+
+isolated function externDeadlineIsExpired(Deadline deadline) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.DeadlineExternUtils"
+} external;
+
+isolated function externDeadlineMin(Deadline deadline, Deadline other) returns Deadline = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.DeadlineExternUtils"
+} external;
+
+isolated function externDeadlineToUtc(Deadline deadline) returns Utc = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.DeadlineExternUtils"
+} external;
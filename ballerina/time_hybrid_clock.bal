@@ -0,0 +1,98 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Hybrid logical clock, which generates timestamps that are unique and increasing on a node and that respect the
+# causality between nodes that exchange them.
+# A timestamp is an `int` that carries the milliseconds from the epoch in its upper 48 bits and a logical counter in
+# its lower 16 bits. Therefore, timestamps can be compared as integers and sent between nodes as they are. The clock
+# is lock-free, so it can be shared between strands.
+public isolated class HybridClock {
+
+    # Creates a hybrid logical clock.
+    # ```ballerina
+    # time:HybridClock clock = new;
+    # ```
+    # + maxOffset - The maximum number of seconds that a received timestamp can be ahead of the local clock
+    public isolated function init(Seconds maxOffset = 60) {
+        externHybridClockInit(self, maxOffset);
+    }
+
+    # Returns a new timestamp for a local event or for a message to be sent.
+    # ```ballerina
+    # int timestamp = clock.now();
+    # ```
+    # + return - A timestamp that is greater than all the timestamps generated or received by this clock
+    public isolated function now() returns int {
+        return externHybridClockNow(self);
+    }
+
+    # Updates the clock with a timestamp received from another node and returns a new timestamp for the receive
+    # event.
+    # ```ballerina
+    # int timestamp = check clock.update(received);
+    # ```
+    # + received - The timestamp received from the other node
+    # + return - A timestamp that is greater than the received timestamp and all the timestamps generated or
+    # received by this clock, or else a `time:Error` if the received timestamp is invalid or is ahead of the local
+    # clock by more than the maximum offset
+    public isolated function update(int received) returns int|Error {
+        return externHybridClockUpdate(self, received);
+    }
+}
+
+# Converts a hybrid logical clock timestamp to the UTC time of its physical part. The logical counter is dropped.
+# ```ballerina
+# time:Utc utc = time:hlcToUtc(clock.now());
+# ```
+# + timestamp - The hybrid logical clock timestamp
+# + return - The UTC time with millisecond precision
+public isolated function hlcToUtc(int timestamp) returns Utc {
+    return externHlcToUtc(timestamp);
+}
+
+# Converts a UTC time to the smallest hybrid logical clock timestamp of its millisecond, which can be used as a
+# bound to select the timestamps of a time range.
+# ```ballerina
+# int timestamp = check time:hlcFromUtc([1700000000, 0.5]);
+# ```
+# + utc - The UTC time from 1970-01-01T00:00:00Z onwards
+# + return - The hybrid logical clock timestamp or else a `time:Error` if the UTC time is out of the range of the
+# timestamps
+public isolated function hlcFromUtc(Utc utc) returns int|Error {
+    return externHlcFromUtc(utc);
+}
+
+isolated function externHybridClockInit(HybridClock clock, Seconds maxOffset) = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.HybridClockExternUtils"
+} external;
+
+isolated function externHybridClockNow(HybridClock clock) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.HybridClockExternUtils"
+} external;
+
+isolated function externHybridClockUpdate(HybridClock clock, int received) returns int|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.HybridClockExternUtils"
+} external;
+
+isolated function externHlcToUtc(int timestamp) returns Utc = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.HybridClockExternUtils"
+} external;
+
+isolated function externHlcFromUtc(Utc utc) returns int|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.HybridClockExternUtils"
+} external;
@@ -0,0 +1,98 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Generator of unique IDs that sort in the order of their generation time.
+# An ID starts with the milliseconds from the epoch of `1970-01-01T00:00:00Z` according to the system clock (the same
+# clock as `time:utcNow()`), which are followed by a 12-bit counter and random bits. The counter increases within a
+# millisecond, so the IDs of a generator are strictly increasing. The random bits are not suitable for IDs that
+# must not be guessable. The generator is lock-free, so it can be shared between strands.
+public isolated class TimeOrderedIdGenerator {
+
+    # Creates a time-ordered ID generator.
+    # ```ballerina
+    # time:TimeOrderedIdGenerator generator = new (time:ULID);
+    # ```
+    # + format - The format of the generated IDs
+    # + striped - If `true`, the generator keeps a separate counter for each of several threads, which avoids the
+    # contention between strands running on different threads. The IDs are then strictly increasing only within a
+    # thread, but they still sort by their milliseconds.
+    public isolated function init(IdFormat format = UUID_V7, boolean striped = false) {
+        externIdGeneratorInit(self, format, striped);
+    }
+
+    # Returns a new ID in its string form.
+    # ```ballerina
+    # string id = generator.nextId();
+    # ```
+    # + return - The ID as a lowercase UUID string or an uppercase ULID string
+    public isolated function nextId() returns string {
+        return externIdGeneratorNextId(self);
+    }
+
+    # Returns a new ID in its 16-byte binary form.
+    # ```ballerina
+    # byte[] id = generator.nextIdBytes();
+    # ```
+    # + return - The 16 bytes of the ID in the big-endian order
+    public isolated function nextIdBytes() returns byte[] {
+        return externIdGeneratorNextIdBytes(self);
+    }
+
+    # Returns the given number of new IDs in their string form. The counter values of all the IDs are reserved at
+    # once, and a call returns at most 4096 IDs, which is the number of counter values in a millisecond.
+    # ```ballerina
+    # string[] ids = check generator.nextIds(100);
+    # ```
+    # + count - The number of IDs
+    # + return - The IDs in ascending order or else a `time:Error` if the count is negative or more than 4096
+    public isolated function nextIds(int count) returns string[]|Error {
+        return externIdGeneratorNextIds(self, count);
+    }
+}
+
+# Returns the UTC time at which the given UUIDv7 or ULID was generated.
+# ```ballerina
+# time:Utc utc = check time:idToUtc("01ARZ3NDEKTSV4RRFFQ69G5FAV");
+# ```
+# + id - The ID as a UUID string, a ULID string, or 16 bytes
+# + return - The UTC time with millisecond precision or else a `time:Error` if the ID is invalid
+public isolated function idToUtc(string|byte[] id) returns Utc|Error {
+    return externIdToUtc(id);
+}
+
+isolated function externIdGeneratorInit(TimeOrderedIdGenerator generator, IdFormat format,
+        boolean striped) = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.TimeOrderedIdExternUtils"
+} external;
+
+isolated function externIdGeneratorNextId(TimeOrderedIdGenerator generator) returns string = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.TimeOrderedIdExternUtils"
+} external;
+
+isolated function externIdGeneratorNextIdBytes(TimeOrderedIdGenerator generator) returns byte[] = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.TimeOrderedIdExternUtils"
+} external;
+
+isolated function externIdGeneratorNextIds(TimeOrderedIdGenerator generator, int count)
+        returns string[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.TimeOrderedIdExternUtils"
+} external;
+
+isolated function externIdToUtc(string|byte[] id) returns Utc|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.TimeOrderedIdExternUtils"
+} external;
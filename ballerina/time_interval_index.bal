@@ -0,0 +1,102 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Index of half-open time intervals `[start, end)`, which finds the intervals that overlap a time range or contain
+# an instant in logarithmic time (e.g., to detect conflicting bookings or maintenance windows).
+# The intervals are kept in a balanced interval tree. Each interval has a unique ID, which the queries return in the
+# order of the starts of the intervals. The index can be shared between strands.
+public isolated class IntervalIndex {
+
+    # Creates an interval index with the given intervals. The index is built in linear time if the intervals are
+    # sorted by their starts.
+    # ```ballerina
+    # time:IntervalIndex index = check new ([{'start: [1700000000, 0], end: [1700003600, 0], id: "booking-1"}]);
+    # ```
+    # + intervals - The initial intervals
+    # + return - A `time:Error` if an interval does not end after its start or an ID is repeated
+    public isolated function init(Interval[] intervals = []) returns Error? {
+        return externIntervalIndexInit(self, intervals);
+    }
+
+    # Adds an interval.
+    # ```ballerina
+    # check index.add([1700007200, 0], [1700010800, 0], "booking-2");
+    # ```
+    # + 'start - The UTC time at which the interval starts
+    # + end - The UTC time at which the interval ends, which is not part of the interval
+    # + id - The ID of the interval
+    # + return - A `time:Error` if the interval does not end after its start or the ID is already used
+    public isolated function add(Utc 'start, Utc end, string id) returns Error? {
+        return externIntervalIndexAdd(self, 'start, end, id);
+    }
+
+    # Removes the interval of the given ID.
+    # ```ballerina
+    # boolean removed = index.remove("booking-2");
+    # ```
+    # + id - The ID of the interval
+    # + return - `true` if the interval was in the index or else `false`
+    public isolated function remove(string id) returns boolean {
+        return externIntervalIndexRemove(self, id);
+    }
+
+    # Returns the IDs of the intervals that overlap the time range `[start, end)`.
+    # ```ballerina
+    # string[] conflicts = check index.overlapping([1700001800, 0], [1700005400, 0]);
+    # ```
+    # + 'start - The UTC time at which the range starts
+    # + end - The UTC time at which the range ends, which is not part of the range
+    # + return - The IDs in the order of the starts of the intervals or else a `time:Error` if the range does not
+    # end after its start or a UTC value is out of the supported range
+    public isolated function overlapping(Utc 'start, Utc end) returns string[]|Error {
+        return externIntervalIndexOverlapping(self, 'start, end);
+    }
+
+    # Returns the IDs of the intervals that contain the given instant.
+    # ```ballerina
+    # string[] active = check index.containing(time:utcNow());
+    # ```
+    # + utc - The instant
+    # + return - The IDs in the order of the starts of the intervals or else a `time:Error` if the UTC value is out
+    # of the supported range
+    public isolated function containing(Utc utc) returns string[]|Error {
+        return externIntervalIndexContaining(self, utc);
+    }
+}
+
+isolated function externIntervalIndexInit(IntervalIndex index, Interval[] intervals) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.IntervalIndexExternUtils"
+} external;
+
+isolated function externIntervalIndexAdd(IntervalIndex index, Utc 'start, Utc end, string id)
+        returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.IntervalIndexExternUtils"
+} external;
+
+isolated function externIntervalIndexRemove(IntervalIndex index, string id) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.IntervalIndexExternUtils"
+} external;
+
+isolated function externIntervalIndexOverlapping(IntervalIndex index, Utc 'start, Utc end)
+        returns string[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.IntervalIndexExternUtils"
+} external;
+
+isolated function externIntervalIndexContaining(IntervalIndex index, Utc utc) returns string[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.IntervalIndexExternUtils"
+} external;
@@ -0,0 +1,76 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Token bucket rate limiter on the monotonic clock (e.g., to throttle the requests of an API client).
+# The bucket holds up to the burst number of permits and is refilled at the given rate. The state of the bucket is
+# a single native value that is updated without any lock, so the limiter can be shared between strands without
+# serializing them, and trying to acquire permits neither allocates nor does any decimal arithmetic.
+public isolated class RateLimiter {
+
+    # Creates a rate limiter whose bucket is full.
+    # ```ballerina
+    # time:RateLimiter limiter = check new (100, burst = 20);
+    # ```
+    # + permitsPerSecond - The rate at which the permits are refilled, which should be positive and at most one
+    # billion
+    # + burst - The maximum number of permits that can be acquired at once
+    # + return - A `time:Error` if the rate or the burst is invalid
+    public isolated function init(decimal permitsPerSecond, int burst = 1) returns Error? {
+        return externRateLimiterInit(self, permitsPerSecond, burst);
+    }
+
+    # Acquires the given number of permits if they are available now.
+    # ```ballerina
+    # if check limiter.tryAcquire() {
+    #     // Send the request.
+    # }
+    # ```
+    # + permits - The number of permits to be acquired
+    # + return - `true` if the permits were acquired, `false` if they are not available now, or else a `time:Error` if
+    # the number of permits is not between one and the burst
+    public isolated function tryAcquire(int permits = 1) returns boolean|Error {
+        return externRateLimiterTryAcquire(self, permits);
+    }
+
+    # Reserves the given number of permits and returns the deadline at which they become available. The caller
+    # should wait until the deadline expires before using the permits, and the later callers wait after it.
+    # ```ballerina
+    # time:Deadline deadline = check limiter.acquireDeadline();
+    # runtime:sleep(deadline.remaining());
+    # ```
+    # + permits - The number of permits to be reserved
+    # + return - A deadline that has already expired if the permits are available now, or else a `time:Error` if the
+    # number of permits is not between one and the burst
+    public isolated function acquireDeadline(int permits = 1) returns Deadline|Error {
+        return externRateLimiterAcquireDeadline(self, permits);
+    }
+}
+
+isolated function externRateLimiterInit(RateLimiter limiter, decimal permitsPerSecond, int burst)
+        returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.RateLimiterExternUtils"
+} external;
+
+isolated function externRateLimiterTryAcquire(RateLimiter limiter, int permits) returns boolean|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.RateLimiterExternUtils"
+} external;
+
+isolated function externRateLimiterAcquireDeadline(RateLimiter limiter, int permits)
+        returns Deadline|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.RateLimiterExternUtils"
+} external;
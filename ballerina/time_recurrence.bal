@@ -0,0 +1,90 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Recurrence rule that computes the fire times of a cron expression in a time zone.
+# The expression is compiled once into per-field masks, so a recurrence can be shared between strands and the
+# fire times are found by skipping whole fields instead of iterating minute by minute.
+public readonly class Recurrence {
+
+    # Compiles a cron expression.
+    # The expression has five fields (`minute hour day-of-month month day-of-week`) or six fields with a leading
+    # `second` field. Each field accepts `*`, `?`, values, ranges (`a-b`), steps (`a-b/n`, `a/n`, and `*` followed by
+    # `/n`), and comma-separated lists of them. Months and days of the week also accept their three-letter names.
+    # When both the day-of-month and the day-of-week fields are restricted, a day matching either of them fires.
+    # The `@yearly`, `@annually`, `@monthly`, `@weekly`, `@daily`, `@midnight`, and `@hourly` macros are also supported.
+    # ```ballerina
+    # time:TimeZone zone = check new ("Asia/Colombo");
+    # time:Recurrence recurrence = check new ("0 9 * * MON-FRI", zone);
+    # ```
+    # + expression - The cron expression
+    # + zone - The time zone in which the expression is evaluated or nil to evaluate it in UTC
+    # + return - A `time:Error` if the expression or the zone is invalid, otherwise nil
+    public isolated function init(string expression, Zone? zone = ()) returns Error? {
+        return externRecurrenceInit(self, expression, zone);
+    }
+
+    # Returns the first fire time strictly after the given UTC time.
+    # Local date-times that fall into a DST gap are moved forward by the length of the gap, and the ones that fall
+    # into a DST overlap fire only once, using the earlier offset.
+    # ```ballerina
+    # time:Utc? next = recurrence.next(time:utcNow());
+    # ```
+    # + after - The UTC time after which the fire time is searched
+    # + return - The next fire time or nil if the expression never fires again
+    public isolated function next(Utc after) returns Utc? {
+        return externRecurrenceNext(self, after);
+    }
+
+    # Returns the next `count` fire times strictly after the given UTC time.
+    # ```ballerina
+    # time:Utc[]|time:Error fireTimes = recurrence.nextN(time:utcNow(), 10);
+    # ```
+    # + after - The UTC time after which the fire times are searched
+    # + count - The number of fire times to be returned, which can be at most 10000
+    # + return - The fire times in ascending order, which has fewer than `count` members if the expression stops
+    # firing, or an error if the `count` is negative or more than 10000
+    public isolated function nextN(Utc after, int count) returns readonly & Utc[]|Error {
+        return externRecurrenceNextN(self, after, count);
+    }
+
+    # Returns the last fire time strictly before the given UTC time.
+    # ```ballerina
+    # time:Utc? previous = recurrence.previous(time:utcNow());
+    # ```
+    # + before - The UTC time before which the fire time is searched
+    # + return - The previous fire time or nil if the expression never fired before
+    public isolated function previous(Utc before) returns Utc? {
+        return externRecurrencePrevious(self, before);
+    }
+}
+
+isolated function externRecurrenceInit(Recurrence recurrence, string expression, Zone? zone) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.RecurrenceExternUtils"
+} external;
+
+isolated function externRecurrenceNext(Recurrence recurrence, Utc after) returns Utc? = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.RecurrenceExternUtils"
+} external;
+
+isolated function externRecurrenceNextN(Recurrence recurrence, Utc after, int count) returns readonly & Utc[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.RecurrenceExternUtils"
+} external;
+
+isolated function externRecurrencePrevious(Recurrence recurrence, Utc before) returns Utc? = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.RecurrenceExternUtils"
+} external;
@@ -0,0 +1,97 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Hierarchical hashed timer wheel, which keeps a timer for each key until it expires (e.g., to track the expiry of a
+# large number of sessions or leases without checking each of them).
+# The time is counted in ticks of the monotonic clock. Scheduling and cancelling a timer take constant time, and
+# the expired timers are collected in batches by the `expired` method, which is meant to be called periodically. A
+# timer never expires before its expiry time and expires at most a tick after it. The memory besides the slots of
+# the wheel is proportional to the number of timers.
+public isolated class TimerWheel {
+
+    # Creates a timer wheel.
+    # ```ballerina
+    # time:TimerWheel wheel = check new (tick = 0.01, wheelSize = 512);
+    # ```
+    # + tick - The number of seconds of a tick, which is the resolution of the timers
+    # + wheelSize - The number of slots of each level of the wheel, which should be a power of two between 2 and 65536
+    # + return - A `time:Error` if the tick is less than a nanosecond or the wheel size is invalid
+    public isolated function init(Seconds tick = 0.1, int wheelSize = 256) returns Error? {
+        return externTimerWheelInit(self, tick, wheelSize);
+    }
+
+    # Schedules the timer of a key, which replaces the timer that the key already has.
+    # A UTC expiry time is converted to the monotonic clock when the timer is scheduled, so later changes of the
+    # system clock do not affect the timer.
+    # ```ballerina
+    # wheel.schedule("session-1", 1800);
+    # ```
+    # + key - The key
+    # + expiry - The number of seconds from now, the UTC time, or the deadline at which the timer expires
+    public isolated function schedule(string key, Seconds|Utc|Deadline expiry) {
+        externTimerWheelSchedule(self, key, expiry);
+    }
+
+    # Cancels the timer of a key.
+    # ```ballerina
+    # boolean cancelled = wheel.cancel("session-1");
+    # ```
+    # + key - The key
+    # + return - `true` if the key had a timer that has not expired, otherwise `false`
+    public isolated function cancel(string key) returns boolean {
+        return externTimerWheelCancel(self, key);
+    }
+
+    # Advances the wheel to the current time and removes the timers that have expired.
+    # ```ballerina
+    # string[] expiredKeys = wheel.expired();
+    # ```
+    # + return - The keys of the expired timers in the order of their expiry ticks
+    public isolated function expired() returns string[] {
+        return externTimerWheelExpired(self);
+    }
+
+    # Returns the number of timers that have neither expired nor been cancelled.
+    # ```ballerina
+    # int pending = wheel.size();
+    # ```
+    # + return - The number of timers
+    public isolated function size() returns int {
+        return externTimerWheelSize(self);
+    }
+}
+
+isolated function externTimerWheelInit(TimerWheel wheel, Seconds tick, int wheelSize) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.TimerWheelExternUtils"
+} external;
+
+isolated function externTimerWheelSchedule(TimerWheel wheel, string key, Seconds|Utc|Deadline expiry) = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.TimerWheelExternUtils"
+} external;
+
+isolated function externTimerWheelCancel(TimerWheel wheel, string key) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.TimerWheelExternUtils"
+} external;
+
+isolated function externTimerWheelExpired(TimerWheel wheel) returns string[] = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.TimerWheelExternUtils"
+} external;
+
+isolated function externTimerWheelSize(TimerWheel wheel) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.TimerWheelExternUtils"
+} external;
@@ -144,6 +144,44 @@ type ReadWriteZoneOffset record {|
     decimal seconds?;
 |};
 
+# Change of the zone offset of a time zone (e.g., the start or the end of daylight saving time).
+public type ZoneTransition readonly & record {|
+    # The UTC time at which the offset changes
+    Utc utc;
+    # The zone offset before the transition
+    ZoneOffset offsetBefore;
+    # The zone offset after the transition
+    ZoneOffset offsetAfter;
+|};
+
+# Half-open time interval `[start, end)` with an ID, which is kept in a `time:IntervalIndex`.
+public type Interval record {|
+    # The UTC time at which the interval starts
+    Utc 'start;
+    # The UTC time at which the interval ends, which is not part of the interval
+    Utc end;
+    # The ID of the interval
+    string id;
+|};
+
+# Aggregate of the values of the events of a time window, which is returned by a `time:WindowAggregator`.
+public type WindowAggregate record {|
+    # The number of events
+    int count;
+    # The sum of the values
+    float sum;
+    # The minimum value or `()` if there are no events
+    float? min;
+    # The maximum value or `()` if there are no events
+    float? max;
+|};
+
+type ReadWriteZoneTransition record {|
+    Utc utc;
+    ZoneOffset offsetBefore;
+    ZoneOffset offsetAfter;
+|};
+
 # The `Z` zone with hours: 0 and minutes: 0.
 public final ZoneOffset Z = {hours: 0};
 
@@ -209,6 +247,15 @@ public enum HeaderZoneHandling {
     ZONE_OFFSET_WITH_TIME_ABBREV_COMMENT
 }
 
+# Indicates the format of the IDs generated by a `TimeOrderedIdGenerator`.
+#
+# + UUID_V7 - A version 7 UUID of RFC 9562 (e.g., `01890a5d-ac96-774b-bcce-b302099a8057`)
+# + ULID - A Universally Unique Lexicographically Sortable Identifier (e.g., `01ARZ3NDEKTSV4RRFFQ69G5FAV`)
+public enum IdFormat {
+    UUID_V7,
+    ULID
+}
+
 # Abstract object representation to handle time zones.  
 public type Zone readonly & object {
 
@@ -238,6 +285,42 @@ public type Zone readonly & object {
     # + return - The civil time after adding the duration
     public isolated function civilAddDuration(Civil civil, Duration duration) returns Civil|Error;
 
+    # Generates the series of civil date-times `civil + step * i` based on the time zone.
+    # Each member is calculated from the given civil value. Therefore, when a day of the month is clamped to the
+    # last day of a shorter month, the later members are not affected. Local date-times that fall into a DST gap
+    # are moved forward by the length of the gap, and the ones that fall into a DST overlap use the earlier offset.
+    #
+    # + civil - The first member of the series
+    # + step - The duration between two consecutive members
+    # + bound - The number of members to be generated or the last civil date-time (inclusive) of the series. A series
+    #           has at most 10000 members
+    # + return - The members of the series or an error if the arguments are invalid
+    public isolated function civilSeries(Civil civil, Duration step, int|Civil bound) returns Civil[]|Error;
+
+    # Generates the series of UTC timestamps corresponding to the civil date-times `civil + step * i` based on
+    # the time zone. The members are generated in the same way as in the `civilSeries` function.
+    #
+    # + civil - The first member of the series
+    # + step - The duration between two consecutive members
+    # + bound - The number of members to be generated or the last civil date-time (inclusive) of the series. A series
+    #           has at most 10000 members
+    # + return - The members of the series or an error if the arguments are invalid
+    public isolated function utcSeries(Civil civil, Duration step, int|Civil bound) returns readonly & Utc[]|Error;
+
+    # Returns the offset transitions (e.g., the start and the end of daylight saving time) of the time zone in the
+    # range [`startUtc`, `endUtc`).
+    #
+    # + startUtc - The start of the range (inclusive)
+    # + endUtc - The end of the range (exclusive)
+    # + return - The transitions in ascending order or an error if the range has more than 10000 transitions
+    public isolated function transitions(Utc startUtc, Utc endUtc) returns readonly & ZoneTransition[]|Error;
+
+    # Returns the first offset transition of the time zone strictly after the given UTC time.
+    #
+    # + utc - The UTC time after which the transition is searched
+    # + return - The next transition or nil if the time zone has no further transitions
+    public isolated function nextTransition(Utc utc) returns ZoneTransition?;
+
 };
 
 # Localized time zone implementation to handle time zones.  
@@ -314,6 +397,97 @@ public readonly class TimeZone {
                 civilTimeSeconds, utcOffsetHours, utcOffsetMinutes, utcOffsetSeconds, timeAbbrev ?: "", zoneHandling,
                 duration.years, duration.months, duration.days, duration.hours, duration.minutes, duration.seconds);
     }
+
+    # Generates the series of civil date-times `civil + step * i` based on the time zone.
+    # Each member is calculated from the given civil value. Therefore, when a day of the month is clamped to the
+    # last day of a shorter month, the later members are not affected. Local date-times that fall into a DST gap
+    # are moved forward by the length of the gap, and the ones that fall into a DST overlap use the earlier offset.
+    # ```ballerina
+    # time:TimeZone timeZone = check new("Asia/Colombo");
+    # time:Civil civil = check time:civilFromString("2025-01-31T09:00:00+05:30[Asia/Colombo]");
+    # time:Civil[]|time:Error series = timeZone.civilSeries(civil, {months: 1}, 36);
+    # ```
+    # + civil - The first member of the series
+    # + step - The duration between two consecutive members
+    # + bound - The number of members to be generated or the last civil date-time (inclusive) of the series.
+    #           A civil date-time without `utcOffset` and `timeAbbrev` is considered to be in this time zone. A series
+    #           has at most 10000 members
+    # + return - The members of the series or an error if the arguments are invalid
+    public isolated function civilSeries(Civil civil, Duration step, int|Civil bound) returns Civil[]|Error {
+        ZoneOffset? utcOffset = civil?.utcOffset;
+        string? timeAbbrev = civil?.timeAbbrev;
+        HeaderZoneHandling zoneHandling = PREFER_ZONE_OFFSET;
+        if utcOffset is () && timeAbbrev is () {
+            return error FormatError("The civil value should have either `utcOffset` or `timeAbbrev`");
+        } else if utcOffset is () && timeAbbrev is string {
+            zoneHandling = PREFER_TIME_ABBREV;
+        }
+        int utcOffsetHours = utcOffset?.hours ?: 0;
+        int utcOffsetMinutes = utcOffset?.minutes ?: 0;
+        decimal utcOffsetSeconds = utcOffset?.seconds ?: 0.0;
+        decimal civilTimeSeconds = civil?.second ?: 0.0;
+
+        return externTimeZoneCivilSeries(self, civil.year, civil.month, civil.day, civil.hour, civil.minute,
+                civilTimeSeconds, utcOffsetHours, utcOffsetMinutes, utcOffsetSeconds, timeAbbrev ?: "", zoneHandling,
+                step.years, step.months, step.days + step.weeks * 7, step.hours, step.minutes, step.seconds, bound);
+    }
+
+    # Generates the series of UTC timestamps corresponding to the civil date-times `civil + step * i` based on
+    # the time zone. The members are generated in the same way as in the `civilSeries` function.
+    # ```ballerina
+    # time:TimeZone timeZone = check new("Asia/Colombo");
+    # time:Civil civil = check time:civilFromString("2025-01-31T09:00:00+05:30[Asia/Colombo]");
+    # time:Utc[]|time:Error series = timeZone.utcSeries(civil, {months: 1}, 36);
+    # ```
+    # + civil - The first member of the series
+    # + step - The duration between two consecutive members
+    # + bound - The number of members to be generated or the last civil date-time (inclusive) of the series.
+    #           A civil date-time without `utcOffset` and `timeAbbrev` is considered to be in this time zone. A series
+    #           has at most 10000 members
+    # + return - The members of the series or an error if the arguments are invalid
+    public isolated function utcSeries(Civil civil, Duration step, int|Civil bound) returns readonly & Utc[]|Error {
+        ZoneOffset? utcOffset = civil?.utcOffset;
+        string? timeAbbrev = civil?.timeAbbrev;
+        HeaderZoneHandling zoneHandling = PREFER_ZONE_OFFSET;
+        if utcOffset is () && timeAbbrev is () {
+            return error FormatError("The civil value should have either `utcOffset` or `timeAbbrev`");
+        } else if utcOffset is () && timeAbbrev is string {
+            zoneHandling = PREFER_TIME_ABBREV;
+        }
+        int utcOffsetHours = utcOffset?.hours ?: 0;
+        int utcOffsetMinutes = utcOffset?.minutes ?: 0;
+        decimal utcOffsetSeconds = utcOffset?.seconds ?: 0.0;
+        decimal civilTimeSeconds = civil?.second ?: 0.0;
+
+        return externTimeZoneUtcSeries(self, civil.year, civil.month, civil.day, civil.hour, civil.minute,
+                civilTimeSeconds, utcOffsetHours, utcOffsetMinutes, utcOffsetSeconds, timeAbbrev ?: "", zoneHandling,
+                step.years, step.months, step.days + step.weeks * 7, step.hours, step.minutes, step.seconds, bound);
+    }
+
+    # Returns the offset transitions (e.g., the start and the end of daylight saving time) of the time zone in the
+    # range [`startUtc`, `endUtc`).
+    # ```ballerina
+    # time:TimeZone timeZone = check new("America/New_York");
+    # time:ZoneTransition[] transitions = check timeZone.transitions(
+    #         check time:utcFromString("2025-01-01T00:00:00Z"), check time:utcFromString("2026-01-01T00:00:00Z"));
+    # ```
+    # + startUtc - The start of the range (inclusive)
+    # + endUtc - The end of the range (exclusive)
+    # + return - The transitions in ascending order or an error if the range has more than 10000 transitions
+    public isolated function transitions(Utc startUtc, Utc endUtc) returns readonly & ZoneTransition[]|Error {
+        return externTimeZoneTransitions(self, startUtc, endUtc);
+    }
+
+    # Returns the first offset transition of the time zone strictly after the given UTC time.
+    # ```ballerina
+    # time:TimeZone timeZone = check new("America/New_York");
+    # time:ZoneTransition? transition = timeZone.nextTransition(time:utcNow());
+    # ```
+    # + utc - The UTC time after which the transition is searched
+    # + return - The next transition or nil if the time zone has no further transitions
+    public isolated function nextTransition(Utc utc) returns ZoneTransition? {
+        return externTimeZoneNextTransition(self, utc);
+    }
 }
 
 # Loads the default time zone of the system.
@@ -339,6 +513,22 @@ public isolated function getZone(string id) returns Zone? {
     return;
 }
 
+# Loads the given time zones and initializes the parsing, formatting, and conversion paths with them.
+# This avoids the latency of loading the time zone rules when the zones are used for the first time.
+# The zones can also be loaded during the module initialization using the `preloadZones` configuration.
+# ```ballerina
+# time:Seconds|time:Error duration = time:warmUp(["America/New_York", "Europe/Paris"]);
+# ```
+# + zoneIds - Time zone IDs in the format of ("Continent/City")
+# + return - The time taken to load the zones or an error if a zone ID is invalid
+public isolated function warmUp(string[] zoneIds) returns Seconds|Error {
+    return externWarmUp(zoneIds);
+}
+
+isolated function externWarmUp(string[] zoneIds) returns Seconds|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.TimeZoneExternUtils"
+} external;
+
 isolated function externTimeZoneInitWithSystemZone(TimeZone timeZone) returns Error? = @java:Method {
     'class: "io.ballerina.stdlib.time.nativeimpl.TimeZoneExternUtils"
 } external;
@@ -367,3 +557,26 @@ isolated function externTimeZoneCivilAddDuration(TimeZone timeZone, int year, in
         decimal duSecond) returns Civil|Error = @java:Method {
     'class: "io.ballerina.stdlib.time.nativeimpl.TimeZoneExternUtils"
 } external;
+
+isolated function externTimeZoneCivilSeries(TimeZone timeZone, int year, int month, int day, int hour, int minute,
+        decimal second, int zoneHour, int zoneMinute, decimal zoneSecond, string timeAbbrev,
+        HeaderZoneHandling zoneHandling, int duYear, int duMonth, int duDay, int duHour, int duMinute,
+        decimal duSecond, int|Civil bound) returns Civil[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.TimeZoneExternUtils"
+} external;
+
+isolated function externTimeZoneUtcSeries(TimeZone timeZone, int year, int month, int day, int hour, int minute,
+        decimal second, int zoneHour, int zoneMinute, decimal zoneSecond, string timeAbbrev,
+        HeaderZoneHandling zoneHandling, int duYear, int duMonth, int duDay, int duHour, int duMinute,
+        decimal duSecond, int|Civil bound) returns readonly & Utc[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.TimeZoneExternUtils"
+} external;
+
+isolated function externTimeZoneTransitions(TimeZone timeZone, Utc startUtc, Utc endUtc)
+        returns readonly & ZoneTransition[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.TimeZoneExternUtils"
+} external;
+
+isolated function externTimeZoneNextTransition(TimeZone timeZone, Utc utc) returns ZoneTransition? = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.TimeZoneExternUtils"
+} external;
@@ -0,0 +1,85 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Aggregates the values of events over sliding or tumbling time windows for each key (e.g., to compute the number,
+# the sum and the maximum of the values of the events of the last five minutes for each client).
+# The time is divided into buckets whose width is the slide, and each key keeps a ring of bucket counters, so adding
+# an event takes constant time and a query takes time proportional to the number of buckets of a window. The latest
+# event time of a key is its watermark. A window accepts events until the watermark of its key passes its end by more
+# than the allowed lateness, and the buckets that are older than that are evicted. Since each key has its own
+# watermark, an event with a far-future time only evicts the windows of its own key. A key that has received no
+# events for a while is removed once its latest event is older than a window together with the allowed lateness
+# before the latest event of all the keys, so the memory stays bounded. A key takes 40 bytes for each bucket of a
+# window together with the allowed lateness. The events of different keys do not contend, so the aggregator can be
+# shared between strands.
+public isolated class WindowAggregator {
+
+    # Creates a window aggregator. The windows slide by the given slide, or they are tumbling windows if the slide is
+    # equal to the window.
+    # ```ballerina
+    # time:WindowAggregator aggregator = check new (300, slide = 10, allowedLateness = 30);
+    # ```
+    # + window - The length of a window in seconds, which should be a multiple of the slide
+    # + slide - The distance between the starts of consecutive windows in seconds or `()` to use tumbling windows
+    # + allowedLateness - The number of seconds after the end of a window during which it accepts late events
+    # + return - A `time:Error` if the lengths are invalid or a window needs more than 4096 buckets
+    public isolated function init(Seconds window, Seconds? slide = (), Seconds allowedLateness = 0) returns Error? {
+        return externWindowAggregatorInit(self, window, slide ?: window, allowedLateness);
+    }
+
+    # Adds an event to the windows of a key.
+    # ```ballerina
+    # boolean added = check aggregator.add("client-1", time:utcNow(), 12.5);
+    # ```
+    # + key - The key of the event
+    # + eventTime - The time of the event
+    # + value - The value of the event
+    # + return - `false` if the event was dropped, because all its windows ended more than the allowed lateness
+    # before the watermark of the key, or else a `time:Error` if the event time is out of the supported range
+    public isolated function add(string key, Utc eventTime, float value = 1.0) returns boolean|Error {
+        return externWindowAggregatorAdd(self, key, eventTime, value);
+    }
+
+    # Returns the aggregate of the values of the events of a key in a window. A query takes O(window / slide) time.
+    # ```ballerina
+    # time:WindowAggregate aggregate = check aggregator.query("client-1");
+    # ```
+    # + key - The key
+    # + windowEnd - A time within the last bucket of the window or `()` to use the latest window of the key, which
+    # ends with the bucket of the watermark of the key
+    # + return - The aggregate of the window or else a `time:Error` if the window ended more than the allowed
+    # lateness before the watermark of the key
+    public isolated function query(string key, Utc? windowEnd = ()) returns WindowAggregate|Error {
+        return externWindowAggregatorQuery(self, key, windowEnd);
+    }
+}
+
+isolated function externWindowAggregatorInit(WindowAggregator aggregator, Seconds window, Seconds slide,
+        Seconds allowedLateness) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.WindowAggregatorExternUtils"
+} external;
+
+isolated function externWindowAggregatorAdd(WindowAggregator aggregator, string key, Utc eventTime, float value)
+        returns boolean|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.WindowAggregatorExternUtils"
+} external;
+
+isolated function externWindowAggregatorQuery(WindowAggregator aggregator, string key, Utc? windowEnd)
+        returns WindowAggregate|Error = @java:Method {
+    'class: "io.ballerina.stdlib.time.nativeimpl.WindowAggregatorExternUtils"
+} external;
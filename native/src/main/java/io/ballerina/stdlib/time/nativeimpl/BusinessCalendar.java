@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import io.ballerina.stdlib.time.util.CalendarUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A calendar of business days, which are the days that are neither weekend days nor holidays. Dates are given as
+ * the number of days from 1970-01-01.
+ * The business days of a year are kept in a bitset with the number of business days before each of its words, so
+ * that checking a day, ranking it within its year and selecting the n-th business day of a year take constant time.
+ * The bitsets are built when a year is used for the first time. Counting the business days of a range uses the
+ * number of working days of the week in each full week and the number of holidays in the range, so it does not
+ * depend on the length of the range.
+ *
+ * @since 2.8.1
+ */
+public class BusinessCalendar {
+
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int YEAR_CACHE_SIZE = 512;
+    // Additions that end within this number of years walk the bitsets, and the longer ones use binary search.
+    private static final int MAX_YEAR_WALK = 4;
+
+    private final int workingDays;
+    private final int workingDaysPerWeek;
+    // workingDaysBefore[i] is the number of working days of the week in the first i days from 1970-01-01 onwards.
+    private final int[] workingDaysBefore = new int[DAYS_PER_WEEK + 1];
+    private final long[] holidays;
+    // The holidays that fall on working days of the week, which are the ones that reduce the business days.
+    private final long[] workingHolidays;
+    private final AtomicReferenceArray<YearDays> years = new AtomicReferenceArray<>(YEAR_CACHE_SIZE);
+
+    /**
+     * Creates a business calendar.
+     *
+     * @param weekendDays the weekend days of the week from 0 (Sunday) to 6 (Saturday)
+     * @param holidays    the holidays as days from 1970-01-01
+     * @throws IllegalArgumentException if a weekend day is invalid or all the days of the week are weekend days
+     */
+    public BusinessCalendar(long[] weekendDays, long[] holidays) {
+
+        int weekend = 0;
+        for (long weekendDay : weekendDays) {
+            if (weekendDay < 0 || weekendDay >= DAYS_PER_WEEK) {
+                throw new IllegalArgumentException("Invalid day of the week: " + weekendDay);
+            }
+            weekend |= 1 << weekendDay;
+        }
+        workingDays = ~weekend & ((1 << DAYS_PER_WEEK) - 1);
+        if (workingDays == 0) {
+            throw new IllegalArgumentException("A business calendar should have at least one working day of the week");
+        }
+        workingDaysPerWeek = Integer.bitCount(workingDays);
+        int dayOfWeek = CalendarUtils.getDayOfWeek(0);
+        for (int i = 0; i < DAYS_PER_WEEK; i++) {
+            workingDaysBefore[i + 1] = workingDaysBefore[i] + (isWorkingDayOfWeek(dayOfWeek) ? 1 : 0);
+            dayOfWeek = (dayOfWeek + 1) % DAYS_PER_WEEK;
+        }
+        this.holidays = Arrays.stream(holidays).sorted().distinct().toArray();
+        workingHolidays = Arrays.stream(this.holidays)
+                .filter(day -> isWorkingDayOfWeek(CalendarUtils.getDayOfWeek(day))).toArray();
+    }
+
+    public boolean isBusinessDay(long epochDay) {
+
+        YearDays year = getYearDays(epochDay);
+        int dayOfYear = (int) (epochDay - year.firstDay);
+        return (year.bits[dayOfYear >>> 6] & 1L << dayOfYear) != 0;
+    }
+
+    /**
+     * Returns the number of business days in the range [startDay, endDay), which is negative if the end is before
+     * the start.
+     *
+     * @param startDay the first day of the range
+     * @param endDay   the day after the last day of the range
+     * @return the number of business days in the range
+     */
+    public long countBusinessDays(long startDay, long endDay) {
+
+        return countBusinessDaysBefore(endDay) - countBusinessDaysBefore(startDay);
+    }
+
+    /**
+     * Returns the business day that is the given number of business days after the given day, or before it if the
+     * number is negative. The given day does not need to be a business day. Zero days return the given day.
+     *
+     * @param epochDay the day to start from
+     * @param days     the number of business days to be added
+     * @return the resulting business day
+     * @throws ArithmeticException if the result is out of the supported range
+     */
+    public long addBusinessDays(long epochDay, long days) {
+
+        if (days == 0) {
+            return epochDay;
+        }
+        YearDays year = getYearDays(epochDay);
+        int dayOfYear = (int) (epochDay - year.firstDay);
+        if (days > 0) {
+            // The rank of the target within the year, counting the business days up to and including the given day.
+            long target = year.rank(dayOfYear + 1) + days;
+            for (int i = 0; i < MAX_YEAR_WALK; i++) {
+                if (target <= year.total()) {
+                    return year.firstDay + year.select((int) target);
+                }
+                target -= year.total();
+                year = getYearDays(year.firstDay + year.length);
+            }
+        } else {
+            long target = year.rank(dayOfYear) + days + 1;
+            for (int i = 0; i < MAX_YEAR_WALK; i++) {
+                if (target >= 1) {
+                    return year.firstDay + year.select((int) target);
+                }
+                year = getYearDays(year.firstDay - 1);
+                target += year.total();
+            }
+        }
+        return searchBusinessDay(epochDay, days);
+    }
+
+    /**
+     * Finds the result of `addBusinessDays` by a binary search over the number of business days before a day.
+     */
+    private long searchBusinessDay(long epochDay, long days) {
+
+        // Every week has `workingDaysPerWeek` working days, of which at most all the holidays are not business days.
+        long dayCount = days > 0 ? days : Math.negateExact(days);
+        long span = Math.multiplyExact(Math.addExact(dayCount / workingDaysPerWeek + 1, workingHolidays.length),
+                DAYS_PER_WEEK);
+        long low;
+        long high;
+        long target;
+        if (days > 0) {
+            // The business day d such that (epochDay, d] has `days` business days.
+            low = epochDay + 1;
+            high = Math.addExact(epochDay, span);
+            target = Math.addExact(countBusinessDaysBefore(epochDay + 1), days);
+        } else {
+            // The business day d such that [d, epochDay) has `-days` business days.
+            low = Math.subtractExact(epochDay, span);
+            high = epochDay - 1;
+            target = countBusinessDaysBefore(epochDay) + days + 1;
+        }
+        // Finds the smallest day whose business days up to and including itself reach the target.
+        while (low < high) {
+            long middle = low + (high - low) / 2;
+            if (countBusinessDaysBefore(middle + 1) >= target) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns a running count of the business days before the given day. Only the difference between two counts is
+     * meaningful.
+     */
+    private long countBusinessDaysBefore(long epochDay) {
+
+        long weeks = Math.floorDiv(epochDay, DAYS_PER_WEEK);
+        int remainder = (int) Math.floorMod(epochDay, DAYS_PER_WEEK);
+        return weeks * workingDaysPerWeek + workingDaysBefore[remainder] - lowerBound(workingHolidays, epochDay);
+    }
+
+    private boolean isWorkingDayOfWeek(int dayOfWeek) {
+
+        return (workingDays & 1 << dayOfWeek) != 0;
+    }
+
+    private YearDays getYearDays(long epochDay) {
+
+        long yearValue = CalendarUtils.getYear(CalendarUtils.toPackedDate(epochDay));
+        int index = (int) Math.floorMod(yearValue, YEAR_CACHE_SIZE);
+        YearDays year = years.get(index);
+        if (year == null || year.year != yearValue) {
+            year = new YearDays(yearValue);
+            years.set(index, year);
+        }
+        return year;
+    }
+
+    private static int lowerBound(long[] values, long value) {
+
+        int index = Arrays.binarySearch(values, value);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * The business days of a year.
+     */
+    private final class YearDays {
+
+        private final long year;
+        private final long firstDay;
+        private final int length;
+        private final long[] bits;
+        // ranks[i] is the number of business days in the words before the word i.
+        private final int[] ranks;
+
+        private YearDays(long year) {
+
+            this.year = year;
+            firstDay = CalendarUtils.toEpochDay(year, 1, 1);
+            length = CalendarUtils.isLeapYear(year) ? 366 : 365;
+            bits = new long[(length + 63) >>> 6];
+            int dayOfWeek = CalendarUtils.getDayOfWeek(firstDay);
+            for (int day = 0; day < length; day++) {
+                if (isWorkingDayOfWeek(dayOfWeek)) {
+                    bits[day >>> 6] |= 1L << day;
+                }
+                dayOfWeek = dayOfWeek == DAYS_PER_WEEK - 1 ? 0 : dayOfWeek + 1;
+            }
+            for (int i = lowerBound(holidays, firstDay); i < holidays.length && holidays[i] < firstDay + length; i++) {
+                int day = (int) (holidays[i] - firstDay);
+                bits[day >>> 6] &= ~(1L << day);
+            }
+            ranks = new int[bits.length + 1];
+            for (int i = 0; i < bits.length; i++) {
+                ranks[i + 1] = ranks[i] + Long.bitCount(bits[i]);
+            }
+        }
+
+        private int total() {
+
+            return ranks[bits.length];
+        }
+
+        /**
+         * Returns the number of business days before the given day of the year.
+         */
+        private int rank(int dayOfYear) {
+
+            int word = dayOfYear >>> 6;
+            return ranks[word] + Long.bitCount(bits[word] & ((1L << dayOfYear) - 1));
+        }
+
+        /**
+         * Returns the day of the year of the given business day, where the first business day of the year is 1.
+         */
+        private int select(int rank) {
+
+            int word = 0;
+            while (ranks[word + 1] < rank) {
+                word++;
+            }
+            long wordBits = bits[word];
+            for (int i = ranks[word] + 1; i < rank; i++) {
+                wordBits &= wordBits - 1;
+            }
+            return (word << 6) + Long.numberOfTrailingZeros(wordBits);
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.time.util.CalendarUtils;
+import io.ballerina.stdlib.time.util.Constants;
+import io.ballerina.stdlib.time.util.Errors;
+import io.ballerina.stdlib.time.util.Utils;
+
+import java.time.DateTimeException;
+
+/**
+ * Contains the extern APIs related to Ballerina BusinessCalendar type generations and operations.
+ *
+ * @since 2.8.1
+ */
+public class BusinessCalendarExternUtils {
+
+    private static final String BUSINESS_CALENDAR_ENTRY = "businessCalendar";
+
+    private BusinessCalendarExternUtils() {
+
+    }
+
+    public static Object externBusinessCalendarInit(BObject calendarObj, BArray weekendDays, BArray holidays) {
+
+        long[] weekend = new long[weekendDays.size()];
+        for (int i = 0; i < weekend.length; i++) {
+            weekend[i] = weekendDays.getInt(i);
+        }
+        long[] holidayDays = new long[holidays.size()];
+        try {
+            for (int i = 0; i < holidayDays.length; i++) {
+                BMap<BString, Object> holiday = (BMap<BString, Object>) holidays.get(i);
+                holidayDays[i] = CalendarUtils.toValidEpochDay(
+                        holiday.getIntValue(Constants.DATE_RECORD_YEAR_BSTRING),
+                        holiday.getIntValue(Constants.DATE_RECORD_MONTH_BSTRING),
+                        holiday.getIntValue(Constants.DATE_RECORD_DAY_BSTRING));
+            }
+            calendarObj.addNativeData(BUSINESS_CALENDAR_ENTRY, new BusinessCalendar(weekend, holidayDays));
+            return null;
+        } catch (DateTimeException | IllegalArgumentException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+    }
+
+    public static Object externBusinessCalendarIsBusinessDay(BObject calendarObj, long year, long month, long day) {
+
+        try {
+            return getCalendar(calendarObj).isBusinessDay(CalendarUtils.toValidEpochDay(year, month, day));
+        } catch (DateTimeException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+    }
+
+    public static Object externBusinessCalendarAddBusinessDays(BObject calendarObj, long year, long month, long day,
+                                                               long days) {
+
+        try {
+            long epochDay = getCalendar(calendarObj).addBusinessDays(
+                    CalendarUtils.toValidEpochDay(year, month, day), days);
+            return Utils.createDate(CalendarUtils.toValidPackedDate(epochDay));
+        } catch (DateTimeException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        } catch (ArithmeticException e) {
+            return Utils.createError(Errors.FormatError,
+                    "The resulting date of adding " + days + " business days is out of the supported range");
+        }
+    }
+
+    public static Object externBusinessCalendarBusinessDaysBetween(BObject calendarObj, long startYear,
+                                                                   long startMonth, long startDay, long endYear,
+                                                                   long endMonth, long endDay) {
+
+        try {
+            return getCalendar(calendarObj).countBusinessDays(
+                    CalendarUtils.toValidEpochDay(startYear, startMonth, startDay),
+                    CalendarUtils.toValidEpochDay(endYear, endMonth, endDay));
+        } catch (DateTimeException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+    }
+
+    private static BusinessCalendar getCalendar(BObject calendarObj) {
+
+        return (BusinessCalendar) calendarObj.getNativeData(BUSINESS_CALENDAR_ENTRY);
+    }
+
+}
@@ -19,22 +19,19 @@ package io.ballerina.stdlib.time.nativeimpl;
 
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.time.util.Constants;
+import io.ballerina.stdlib.time.util.DateTimeFormatters;
 import io.ballerina.stdlib.time.util.ModuleUtils;
 import io.ballerina.stdlib.time.util.Utils;
 
 import java.math.BigDecimal;
-import java.math.MathContext;
 import java.time.Period;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Map;
-import java.util.regex.Pattern;
-
-import static io.ballerina.stdlib.time.util.Constants.ANALOG_GIGA;
 
 /**
  * Contains the APIs related to Ballerina Civil type generation.
@@ -46,8 +43,6 @@ public class Civil {
     private final ZonedDateTime zonedDateTime;
     private boolean isSecondExists = false;
     private boolean isLocalTimeZoneExists = false;
-    private final BMap<BString, Object> civilMap = ValueCreator.createRecordValue(ModuleUtils.getModule(),
-            Constants.CIVIL_RECORD);
 
     public Civil(ZonedDateTime zonedDateTime) {
 
@@ -57,8 +52,8 @@ public class Civil {
     public Civil(String zonedDateTimeString, Constants.CivilInputStringTypes inputStringTypes) {
 
         if (Constants.CivilInputStringTypes.EMAIL_STRING.toString().equals(inputStringTypes.toString())) {
-            DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(Constants.EMAIL_DATE_TIME_FORMAT);
-            this.zonedDateTime = ZonedDateTime.parse(zonedDateTimeString, dateTimeFormatter);
+            this.zonedDateTime = ZonedDateTime.parse(zonedDateTimeString,
+                    DateTimeFormatters.EMAIL_DATE_TIME_FORMATTER);
             this.isSecondExists = true;
             this.isLocalTimeZoneExists = true;
         } else {
@@ -68,6 +63,44 @@ public class Civil {
         }
     }
 
+    /**
+     * Creates a Civil using the fields of a Ballerina `time:Civil` record. The `utcOffset` field is preferred over
+     * the `timeAbbrev` field and the given default zone is used when neither of them is present.
+     *
+     * @param civil         The Ballerina civil record
+     * @param defaultZoneId The zone to be used when the record does not carry any zone information
+     * @return The corresponding Civil
+     */
+    public static Civil fromRecord(BMap<BString, Object> civil, ZoneId defaultZoneId) {
+
+        BDecimal second = civil.containsKey(Constants.TIME_OF_DAY_RECORD_SECOND_BSTRING) ?
+                (BDecimal) civil.get(Constants.TIME_OF_DAY_RECORD_SECOND_BSTRING) : BDecimal.valueOf(0);
+        long zoneHour = 0;
+        long zoneMinute = 0;
+        BDecimal zoneSecond = BDecimal.valueOf(0);
+        Constants.HeaderZoneHandling zoneHandling = Constants.HeaderZoneHandling.PREFER_TIME_ABBREV;
+        Object utcOffset = civil.get(Constants.CIVIL_RECORD_UTC_OFFSET_BSTRING);
+        if (utcOffset instanceof BMap) {
+            BMap<BString, Object> zoneOffset = (BMap<BString, Object>) utcOffset;
+            zoneHour = zoneOffset.getIntValue(Constants.ZONE_OFFSET_RECORD_HOUR_BSTRING);
+            zoneMinute = zoneOffset.getIntValue(Constants.ZONE_OFFSET_RECORD_MINUTE_BSTRING);
+            if (zoneOffset.containsKey(Constants.ZONE_OFFSET_RECORD_SECOND_BSTRING)) {
+                zoneSecond = (BDecimal) zoneOffset.get(Constants.ZONE_OFFSET_RECORD_SECOND_BSTRING);
+            }
+            zoneHandling = Constants.HeaderZoneHandling.PREFER_ZONE_OFFSET;
+        }
+        BString zoneAbbr = civil.containsKey(Constants.CIVIL_RECORD_TIME_ABBREV_BSTRING) ?
+                civil.getStringValue(Constants.CIVIL_RECORD_TIME_ABBREV_BSTRING) :
+                StringUtils.fromString(defaultZoneId.getId());
+        return new Civil(Utils.createZoneDateTimeFromCivilValues(
+                civil.getIntValue(Constants.DATE_RECORD_YEAR_BSTRING),
+                civil.getIntValue(Constants.DATE_RECORD_MONTH_BSTRING),
+                civil.getIntValue(Constants.DATE_RECORD_DAY_BSTRING),
+                civil.getIntValue(Constants.TIME_OF_DAY_RECORD_HOUR_BSTRING),
+                civil.getIntValue(Constants.TIME_OF_DAY_RECORD_MINUTE_BSTRING),
+                second, zoneHour, zoneMinute, zoneSecond, zoneAbbr, zoneHandling.toString()));
+    }
+
     public ZonedDateTime getZonedDateTime() {
 
         return zonedDateTime;
@@ -75,9 +108,9 @@ public class Civil {
 
     public BMap<BString, Object> build() {
 
-        setCommonCivilFields();
-        BigDecimal second = new BigDecimal(zonedDateTime.getSecond());
-        second = second.add(new BigDecimal(zonedDateTime.getNano()).divide(ANALOG_GIGA, MathContext.DECIMAL128));
+        BMap<BString, Object> civilMap = createCommonCivilFields();
+        BigDecimal second = BigDecimal.valueOf(zonedDateTime.getSecond())
+                .add(Utils.secondsFromNanos(zonedDateTime.getNano()));
         civilMap.put(Constants.TIME_OF_DAY_RECORD_SECOND_BSTRING, ValueCreator.createDecimalValue(second));
 
         return civilMap;
@@ -85,9 +118,9 @@ public class Civil {
 
     public BMap<BString, Object> buildWithZone() {
 
-        setCommonCivilFields();
-        BigDecimal second = new BigDecimal(zonedDateTime.getSecond());
-        second = second.add(new BigDecimal(zonedDateTime.getNano()).divide(ANALOG_GIGA, MathContext.DECIMAL128));
+        BMap<BString, Object> civilMap = createCommonCivilFields();
+        BigDecimal second = BigDecimal.valueOf(zonedDateTime.getSecond())
+                .add(Utils.secondsFromNanos(zonedDateTime.getNano()));
 
         if (this.isSecondExists) {
             civilMap.put(Constants.TIME_OF_DAY_RECORD_SECOND_BSTRING, ValueCreator.createDecimalValue(second));
@@ -100,8 +133,39 @@ public class Civil {
         return civilMap;
     }
 
-    private void setCommonCivilFields() {
+    /**
+     * Fills a Ballerina `time:Civil` record with the given field values without a `ZonedDateTime`.
+     *
+     * @param civilMap   The record to be filled
+     * @param year       The year
+     * @param month      The month
+     * @param day        The day of the month
+     * @param hour       The hour
+     * @param minute     The minute
+     * @param second     The second including its fraction
+     * @param timeAbbrev The time zone abbreviation
+     * @param dayOfWeek  The day of the week from 0 (Sunday) to 6 (Saturday)
+     * @return The filled record
+     */
+    static BMap<BString, Object> fillRecord(BMap<BString, Object> civilMap, long year, long month, long day,
+                                            long hour, long minute, BigDecimal second, BString timeAbbrev,
+                                            long dayOfWeek) {
+
+        civilMap.put(Constants.DATE_RECORD_YEAR_BSTRING, year);
+        civilMap.put(Constants.DATE_RECORD_MONTH_BSTRING, month);
+        civilMap.put(Constants.DATE_RECORD_DAY_BSTRING, day);
+        civilMap.put(Constants.TIME_OF_DAY_RECORD_HOUR_BSTRING, hour);
+        civilMap.put(Constants.TIME_OF_DAY_RECORD_MINUTE_BSTRING, minute);
+        civilMap.put(Constants.TIME_OF_DAY_RECORD_SECOND_BSTRING, ValueCreator.createDecimalValue(second));
+        civilMap.put(Constants.CIVIL_RECORD_TIME_ABBREV_BSTRING, timeAbbrev);
+        civilMap.put(Constants.CIVIL_RECORD_DAY_OF_WEEK_BSTRING, dayOfWeek);
+        return civilMap;
+    }
 
+    private BMap<BString, Object> createCommonCivilFields() {
+
+        BMap<BString, Object> civilMap = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                Constants.CIVIL_RECORD);
         civilMap.put(Constants.DATE_RECORD_YEAR_BSTRING, zonedDateTime.getYear());
         civilMap.put(Constants.DATE_RECORD_MONTH_BSTRING, zonedDateTime.getMonthValue());
         civilMap.put(Constants.DATE_RECORD_DAY_BSTRING, zonedDateTime.getDayOfMonth());
@@ -110,18 +174,17 @@ public class Civil {
         civilMap.put(Constants.CIVIL_RECORD_TIME_ABBREV_BSTRING,
                 StringUtils.fromString(zonedDateTime.getZone().toString()));
         civilMap.put(Constants.CIVIL_RECORD_DAY_OF_WEEK_BSTRING, (zonedDateTime.getDayOfWeek().getValue() % 7));
+        return civilMap;
     }
 
     private boolean isLocalTimeZoneExists(String time) {
 
-        Pattern pattern = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}(:\\d{2}\\.\\d+)?(Z$)");
-        return !pattern.matcher(time).find();
+        return !DateTimeFormatters.UTC_TIMESTAMP_PATTERN.matcher(time).find();
     }
 
     private boolean isSecondExists(String time) {
 
-        Pattern pattern = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}(\\.\\d+)?");
-        return pattern.matcher(time).find();
+        return DateTimeFormatters.TIMESTAMP_WITH_SECONDS_PATTERN.matcher(time).find();
     }
 
     public BMap<BString, Object> createZoneOffsetFromZonedDateTime(ZonedDateTime zonedDateTime) {
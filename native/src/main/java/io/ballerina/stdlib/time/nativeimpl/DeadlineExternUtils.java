@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.time.util.Constants;
+import io.ballerina.stdlib.time.util.ModuleUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Contains the extern APIs related to Ballerina Deadline type generations and operations.
+ * A deadline keeps its target as a `System.nanoTime()` value, so checking it costs a clock read and a subtraction.
+ *
+ * @since 2.8.1
+ */
+public class DeadlineExternUtils {
+
+    private static final String DEADLINE_TYPE = "Deadline";
+    private static final String DEADLINE_ENTRY = "deadline";
+    // Keeps `target - System.nanoTime()` away from overflowing for timeouts of about 146 years or more.
+    static final long MAX_TIMEOUT_NANOS = Long.MAX_VALUE / 2;
+    private static final BDecimal ZERO_SECONDS = ValueCreator.createDecimalValue(BigDecimal.ZERO);
+
+    private DeadlineExternUtils() {
+
+    }
+
+    public static void externDeadlineInit(BObject deadlineObj, BDecimal timeout) {
+
+        deadlineObj.addNativeData(DEADLINE_ENTRY, System.nanoTime() + toTimeoutNanos(timeout));
+    }
+
+    public static BDecimal externDeadlineRemaining(BObject deadlineObj) {
+
+        long remaining = getTarget(deadlineObj) - System.nanoTime();
+        if (remaining <= 0) {
+            return ZERO_SECONDS;
+        }
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(remaining, 9));
+    }
+
+    public static boolean externDeadlineIsExpired(BObject deadlineObj) {
+
+        return getTarget(deadlineObj) - System.nanoTime() <= 0;
+    }
+
+    public static BObject externDeadlineMin(BObject deadlineObj, BObject otherObj) {
+
+        return getTarget(otherObj) - getTarget(deadlineObj) < 0 ? otherObj : deadlineObj;
+    }
+
+    public static BArray externDeadlineToUtc(BObject deadlineObj) {
+
+        long remaining = getTarget(deadlineObj) - System.nanoTime();
+        return new Utc(Instant.now().plusNanos(remaining)).build();
+    }
+
+    /**
+     * Converts a timeout in seconds to nanoseconds, which are zero for a zero or negative timeout and are limited
+     * to about 146 years.
+     */
+    static long toTimeoutNanos(BDecimal timeout) {
+
+        BigDecimal timeoutNanos = timeout.decimalValue().multiply(Constants.ANALOG_GIGA);
+        if (timeoutNanos.compareTo(BigDecimal.valueOf(MAX_TIMEOUT_NANOS)) >= 0) {
+            return MAX_TIMEOUT_NANOS;
+        } else if (timeoutNanos.signum() <= 0) {
+            return 0;
+        }
+        return timeoutNanos.longValue();
+    }
+
+    /**
+     * Creates a deadline that expires at the given `System.nanoTime()` value. The init function of the deadline
+     * counts the timeout from the time at which it runs, so the deadline may expire slightly later but never earlier.
+     */
+    static BObject createDeadline(long target) {
+
+        long timeout = target - System.nanoTime();
+        return ValueCreator.createObjectValue(ModuleUtils.getModule(), DEADLINE_TYPE, timeout <= 0 ? ZERO_SECONDS :
+                ValueCreator.createDecimalValue(BigDecimal.valueOf(timeout, 9)));
+    }
+
+    /**
+     * Returns the `System.nanoTime()` value at which a deadline expires.
+     */
+    static long getTarget(BObject deadlineObj) {
+
+        return (Long) deadlineObj.getNativeData(DEADLINE_ENTRY);
+    }
+
+}
@@ -23,18 +23,23 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.time.util.CalendarUtils;
 import io.ballerina.stdlib.time.util.Constants;
+import io.ballerina.stdlib.time.util.DateTimeFormatters;
 import io.ballerina.stdlib.time.util.Errors;
+import io.ballerina.stdlib.time.util.ModuleUtils;
 import io.ballerina.stdlib.time.util.TimeValueHandler;
+import io.ballerina.stdlib.time.util.TimestampValidator;
 import io.ballerina.stdlib.time.util.Utils;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Period;
-import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -45,6 +50,9 @@ import java.time.format.DateTimeFormatter;
  */
 public class ExternMethods {
 
+    // The zone of `utcToCivil`, which memoizes the last converted day like the zones of the time zone objects.
+    private static final Zone UTC_ZONE = Zone.of("Z");
+
     private ExternMethods() {
 
     }
@@ -61,8 +69,7 @@ public class ExternMethods {
 
     public static BDecimal externMonotonicNow() {
 
-        long time = System.nanoTime();
-        return ValueCreator.createDecimalValue(new BigDecimal(time).divide(Constants.ANALOG_GIGA));
+        return ValueCreator.createDecimalValue(Utils.secondsFromNanos(System.nanoTime()));
     }
 
     public static Object externUtcFromString(BString str) {
@@ -83,14 +90,56 @@ public class ExternMethods {
         return StringUtils.fromString(time.toString());
     }
 
+    public static long externUtcCompare(BArray utc1, BArray utc2) {
+
+        return UtcOrdering.compare(utc1, utc2);
+    }
+
+    public static BArray externUtcMin(BArray utc, BArray utcs) {
+
+        BArray min = utc;
+        for (int i = 0; i < utcs.size(); i++) {
+            BArray other = (BArray) utcs.get(i);
+            if (UtcOrdering.compare(other, min) < 0) {
+                min = other;
+            }
+        }
+        return min;
+    }
+
+    public static BArray externUtcMax(BArray utc, BArray utcs) {
+
+        BArray max = utc;
+        for (int i = 0; i < utcs.size(); i++) {
+            BArray other = (BArray) utcs.get(i);
+            if (UtcOrdering.compare(other, max) > 0) {
+                max = other;
+            }
+        }
+        return max;
+    }
+
+    public static BArray externUtcSort(BArray utcs) {
+
+        return Utils.createMutableUtcArray(UtcOrdering.sort(utcs));
+    }
+
+    public static Object externUtcMergeSorted(BArray utcLists) {
+
+        try {
+            return Utils.createMutableUtcArray(UtcOrdering.mergeSorted(utcLists));
+        } catch (IllegalArgumentException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+    }
+
     public static BDecimal externUtcDiffSeconds(BArray utc1, BArray utc2) {
 
         Instant time1 = new Utc(utc1).generateInstant();
         Instant time2 = new Utc(utc2).generateInstant();
         time1 = time1.minusNanos(time2.getNano());
         time1 = time1.minusSeconds(time2.getEpochSecond());
-        BigDecimal nanoSeconds = new BigDecimal(time1.getNano()).divide(Constants.ANALOG_GIGA);
-        BigDecimal seconds = new BigDecimal(time1.getEpochSecond()).add(nanoSeconds);
+        BigDecimal seconds = BigDecimal.valueOf(time1.getEpochSecond()).add(Utils.secondsFromNanos(time1.getNano()));
         return ValueCreator.createDecimalValue(seconds);
     }
 
@@ -119,11 +168,153 @@ public class ExternMethods {
         }
     }
 
+    public static boolean externIsValidRfc3339(BString timestamp) {
+
+        return TimestampValidator.findRfc3339Error(timestamp.getValue()) < 0;
+    }
+
+    public static boolean externIsValidEmailDate(BString dateTimeString) {
+
+        return TimestampValidator.findEmailDateError(dateTimeString.getValue()) < 0;
+    }
+
+    public static boolean externIsValidDate(long year, long month, long day) {
+
+        return TimestampValidator.isValidDate(year, month, day);
+    }
+
+    public static BMap<BString, Object> externUtcToDate(BArray utc, Object zoneObj) {
+
+        long localSeconds = getLocalSeconds(utc, zoneObj);
+        return Utils.createDate(CalendarUtils.toPackedDate(Math.floorDiv(localSeconds, Constants.SECONDS_PER_DAY)));
+    }
+
+    public static BMap<BString, Object> externUtcToTimeOfDay(BArray utc, Object zoneObj) {
+
+        long secondOfDay = Math.floorMod(getLocalSeconds(utc, zoneObj), Constants.SECONDS_PER_DAY);
+        BigDecimal fraction = ((BDecimal) utc.get(1)).decimalValue();
+        if (!isNormalizedFraction(fraction)) {
+            fraction = fraction.subtract(fraction.setScale(0, RoundingMode.FLOOR));
+        }
+        long secondOfMinute = secondOfDay % Constants.SECONDS_PER_MINUTE;
+        BigDecimal second = secondOfMinute == 0 ? fraction : fraction.add(BigDecimal.valueOf(secondOfMinute));
+        BMap<BString, Object> timeOfDayMap = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                Constants.TIME_OF_DAY_RECORD);
+        timeOfDayMap.put(Constants.TIME_OF_DAY_RECORD_HOUR_BSTRING, secondOfDay / Constants.SECONDS_PER_HOUR);
+        timeOfDayMap.put(Constants.TIME_OF_DAY_RECORD_MINUTE_BSTRING,
+                secondOfDay % Constants.SECONDS_PER_HOUR / Constants.SECONDS_PER_MINUTE);
+        timeOfDayMap.put(Constants.TIME_OF_DAY_RECORD_SECOND_BSTRING, ValueCreator.createDecimalValue(second));
+        return timeOfDayMap;
+    }
+
+    public static long externUtcToEpochDay(BArray utc, Object zoneObj) {
+
+        return Math.floorDiv(getLocalSeconds(utc, zoneObj), Constants.SECONDS_PER_DAY);
+    }
+
+    public static Object externDateToEpochDay(long year, long month, long day) {
+
+        try {
+            return CalendarUtils.toValidEpochDay(year, month, day);
+        } catch (DateTimeException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+    }
+
+    public static Object externDateFromEpochDay(long epochDay) {
+
+        try {
+            return Utils.createDate(CalendarUtils.toValidPackedDate(epochDay));
+        } catch (ArithmeticException e) {
+            return Utils.createError(Errors.FormatError, "The epoch day " + epochDay + " is out of the supported "
+                    + "range of dates");
+        }
+    }
+
+    public static Object externDateAddDays(long year, long month, long day, long days) {
+
+        try {
+            long epochDay = CalendarUtils.toValidEpochDay(year, month, day);
+            return Utils.createDate(CalendarUtils.toValidPackedDate(Math.addExact(epochDay, days)));
+        } catch (DateTimeException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        } catch (ArithmeticException e) {
+            return Utils.createError(Errors.FormatError,
+                    "The resulting date of adding " + days + " days is out of the supported range");
+        }
+    }
+
+    public static Object externDateAddMonths(long year, long month, long day, long months) {
+
+        try {
+            CalendarUtils.toValidEpochDay(year, month, day);
+            return Utils.createDate(CalendarUtils.addMonths(year, month, day, months));
+        } catch (DateTimeException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        } catch (ArithmeticException e) {
+            return Utils.createError(Errors.FormatError,
+                    "The resulting date of adding " + months + " months is out of the supported range");
+        }
+    }
+
+    public static Object externDateDiffDays(long year1, long month1, long day1, long year2, long month2,
+                                            long day2) {
+
+        try {
+            // The epoch days of the supported dates are far from overflowing when subtracted.
+            return CalendarUtils.toValidEpochDay(year1, month1, day1) - CalendarUtils.toValidEpochDay(year2, month2,
+                    day2);
+        } catch (DateTimeException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+    }
+
+    public static Object externDateFromString(BString dateString) {
+
+        try {
+            return Utils.createDate(CalendarUtils.parseDate(dateString.getValue()));
+        } catch (DateTimeException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+    }
+
+    public static Object externDateToString(long year, long month, long day) {
+
+        try {
+            CalendarUtils.toValidEpochDay(year, month, day);
+            return StringUtils.fromString(CalendarUtils.toIsoString(year, month, day));
+        } catch (DateTimeException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+    }
+
     public static BMap externUtcToCivil(BArray utc) {
 
-        Instant time = new Utc(utc).generateInstant();
-        ZonedDateTime zonedDateTime = time.atZone(ZoneId.of("Z"));
-        return TimeValueHandler.createCivilFromZoneDateTime(zonedDateTime);
+        return UTC_ZONE.toCivilRecord(new Utc(utc).generateInstant());
+    }
+
+    public static Object externUtcToCivilMulti(BArray utc, BArray zones) {
+
+        try {
+            Zone[] nativeZones = getNativeZones(zones);
+            return Utils.createCivilArray(toCivilRecords(new Utc(utc).generateInstant(), nativeZones));
+        } catch (DateTimeException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+    }
+
+    public static Object externUtcToCivilMatrix(BArray utcs, BArray zones) {
+
+        try {
+            Zone[] nativeZones = getNativeZones(zones);
+            Object[][] civilArrays = new Object[utcs.size()][];
+            for (int i = 0; i < civilArrays.length; i++) {
+                civilArrays[i] = toCivilRecords(new Utc((BArray) utcs.get(i)).generateInstant(), nativeZones);
+            }
+            return Utils.createCivilMatrix(civilArrays);
+        } catch (DateTimeException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
     }
 
     public static Object externUtcFromCivil(long year, long month, long day, long hour, long minute, BDecimal second,
@@ -178,7 +369,7 @@ public class ExternMethods {
             zhString = "+0000";
         }
         return StringUtils.fromString(ZonedDateTime.ofInstant(time,
-                        ZoneId.of(Constants.GMT_STRING_VALUE)).format(DateTimeFormatter.RFC_1123_DATE_TIME)
+                        DateTimeFormatters.GMT_ZONE).format(DateTimeFormatter.RFC_1123_DATE_TIME)
                 .replace(Constants.GMT_STRING_VALUE, zhString).replace(Constants.ZERO_ZONE_STRING_VALUE, zhString));
     }
 
@@ -190,11 +381,10 @@ public class ExternMethods {
             ZonedDateTime dateTime = TimeValueHandler.createZoneDateTimeFromCivilValues(year, month, day, hour,
                     minute, second, zoneHour, zoneMinute, zoneSecond, zoneAbbr, zoneHandling.getValue());
             if (Constants.HeaderZoneHandling.PREFER_ZONE_OFFSET.toString().equals(zoneHandling.getValue())) {
-                return StringUtils.fromString(dateTime.format(DateTimeFormatter.ofPattern(
-                        Constants.EMAIL_DATE_TIME_FORMAT_WITHOUT_COMMENT)));
+                return StringUtils.fromString(dateTime.format(
+                        DateTimeFormatters.EMAIL_DATE_TIME_FORMATTER_WITHOUT_COMMENT));
             }
-            return StringUtils.fromString(dateTime.format(DateTimeFormatter.ofPattern(
-                    Constants.EMAIL_DATE_TIME_FORMAT)));
+            return StringUtils.fromString(dateTime.format(DateTimeFormatters.EMAIL_DATE_TIME_FORMATTER));
         } catch (DateTimeException e) {
             return Utils.createError(Errors.FormatError, e.getMessage());
         }
@@ -220,4 +410,55 @@ public class ExternMethods {
         }
     }
 
+    /**
+     * Returns the whole seconds of the given UTC time from the epoch, shifted by the offset of the given time zone.
+     */
+    private static long getLocalSeconds(BArray utc, Object zoneObj) {
+
+        long seconds = utc.getInt(0);
+        BigDecimal fraction = ((BDecimal) utc.get(1)).decimalValue();
+        if (!isNormalizedFraction(fraction)) {
+            seconds = Math.addExact(seconds, fraction.setScale(0, RoundingMode.FLOOR).longValueExact());
+        }
+        if (zoneObj == null) {
+            return seconds;
+        }
+        return seconds + TimeZoneExternUtils.getNativeZone((BObject) zoneObj).getOffsetSeconds(seconds);
+    }
+
+    /**
+     * Returns the native zones of the given `time:TimeZone` objects or zone IDs.
+     *
+     * @throws DateTimeException if a zone ID is invalid
+     */
+    private static Zone[] getNativeZones(BArray zones) {
+
+        Zone[] nativeZones = new Zone[zones.size()];
+        for (int i = 0; i < nativeZones.length; i++) {
+            Object zone = zones.get(i);
+            nativeZones[i] = zone instanceof BString ? Zone.of(((BString) zone).getValue()) :
+                    TimeZoneExternUtils.getNativeZone((BObject) zone);
+        }
+        return nativeZones;
+    }
+
+    /**
+     * Converts the given instant to the civil records of the given zones. The instant is decoded only once.
+     */
+    private static Object[] toCivilRecords(Instant instant, Zone[] zones) {
+
+        long epochSecond = instant.getEpochSecond();
+        BigDecimal fraction = Utils.secondsFromNanos(instant.getNano());
+        Object[] civils = new Object[zones.length];
+        for (int i = 0; i < zones.length; i++) {
+            civils[i] = zones[i].toCivilRecord(epochSecond, fraction);
+        }
+        return civils;
+    }
+
+    private static boolean isNormalizedFraction(BigDecimal fraction) {
+
+        return fraction.signum() >= 0 && fraction.compareTo(BigDecimal.ONE) < 0;
+    }
+
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.time.util.Constants;
+import io.ballerina.stdlib.time.util.Errors;
+import io.ballerina.stdlib.time.util.Utils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contains the extern APIs related to the Ballerina HybridClock type.
+ * A hybrid logical clock timestamp packs the milliseconds from the epoch into the upper 48 bits of a long and a
+ * logical counter into the lower 16 bits. Therefore, the timestamps order the same way as the longs, and adding one
+ * to a timestamp whose counter is full moves it to the next millisecond. The last timestamp of a clock is kept in an
+ * AtomicLong, which is updated with a compare-and-set loop.
+ *
+ * @since 2.8.1
+ */
+public class HybridClockExternUtils {
+
+    private static final String HYBRID_CLOCK_ENTRY = "hybridClock";
+    private static final int LOGICAL_BITS = 16;
+    // The timestamps stay non-negative until the year 6429.
+    private static final long MAX_PHYSICAL_MILLIS = (Long.MAX_VALUE >> LOGICAL_BITS) + 1;
+
+    private HybridClockExternUtils() {
+
+    }
+
+    public static void externHybridClockInit(BObject clockObj, BDecimal maxOffset) {
+
+        BigDecimal maxOffsetMillis = maxOffset.decimalValue().multiply(Constants.ANALOG_KILO);
+        clockObj.addNativeData(HYBRID_CLOCK_ENTRY, new State(maxOffsetMillis.signum() <= 0 ? 0 :
+                maxOffsetMillis.min(BigDecimal.valueOf(MAX_PHYSICAL_MILLIS)).longValue()));
+    }
+
+    public static long externHybridClockNow(BObject clockObj) {
+
+        AtomicLong last = getState(clockObj).last;
+        while (true) {
+            long previous = last.get();
+            long next = Math.max(previous + 1, System.currentTimeMillis() << LOGICAL_BITS);
+            if (last.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    public static Object externHybridClockUpdate(BObject clockObj, long received) {
+
+        State state = getState(clockObj);
+        long physicalMillis = System.currentTimeMillis();
+        if (received < 0) {
+            return Utils.createError(Errors.FormatError, "Invalid hybrid clock timestamp: " + received);
+        }
+        if ((received >> LOGICAL_BITS) - physicalMillis > state.maxOffsetMillis) {
+            return Utils.createError(Errors.FormatError, "The received hybrid clock timestamp is "
+                    + ((received >> LOGICAL_BITS) - physicalMillis) + " milliseconds ahead of the local clock, "
+                    + "which exceeds the maximum offset of " + state.maxOffsetMillis + " milliseconds");
+        }
+        AtomicLong last = state.last;
+        while (true) {
+            long previous = last.get();
+            long next = Math.max(Math.max(previous, received) + 1, physicalMillis << LOGICAL_BITS);
+            if (last.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    public static BArray externHlcToUtc(long timestamp) {
+
+        return new Utc(Instant.ofEpochMilli(timestamp >> LOGICAL_BITS)).build();
+    }
+
+    public static Object externHlcFromUtc(BArray utc) {
+
+        long seconds = utc.getInt(0);
+        long millis = seconds >= 0 && seconds < MAX_PHYSICAL_MILLIS / 1000 ?
+                new Utc(utc).generateInstant().toEpochMilli() : -1;
+        if (millis < 0 || millis >= MAX_PHYSICAL_MILLIS) {
+            return Utils.createError(Errors.FormatError,
+                    "The UTC value is out of the range of hybrid clock timestamps: " + seconds);
+        }
+        return millis << LOGICAL_BITS;
+    }
+
+    private static State getState(BObject clockObj) {
+
+        return (State) clockObj.getNativeData(HYBRID_CLOCK_ENTRY);
+    }
+
+    /**
+     * The native state of a hybrid clock.
+     */
+    private static final class State {
+
+        private final AtomicLong last = new AtomicLong();
+        private final long maxOffsetMillis;
+
+        private State(long maxOffsetMillis) {
+
+            this.maxOffsetMillis = maxOffsetMillis;
+        }
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.time.util.Constants;
+import io.ballerina.stdlib.time.util.Errors;
+import io.ballerina.stdlib.time.util.Utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Contains the extern APIs related to the Ballerina IntervalIndex type.
+ *
+ * @since 2.8.1
+ */
+public class IntervalIndexExternUtils {
+
+    private static final String INTERVAL_INDEX_ENTRY = "intervalIndex";
+    private static final String OUT_OF_RANGE_ERROR = "The UTC value is out of the supported range";
+
+    private IntervalIndexExternUtils() {
+
+    }
+
+    public static Object externIntervalIndexInit(BObject indexObj, BArray intervals) {
+
+        int size = intervals.size();
+        long[] startSeconds = new long[size];
+        long[] startNanos = new long[size];
+        long[] endSeconds = new long[size];
+        long[] endNanos = new long[size];
+        BString[] ids = new BString[size];
+        try {
+            for (int i = 0; i < size; i++) {
+                BMap<BString, Object> interval = (BMap<BString, Object>) intervals.get(i);
+                BArray start = (BArray) interval.get(Constants.INTERVAL_RECORD_START_BSTRING);
+                BArray end = (BArray) interval.get(Constants.INTERVAL_RECORD_END_BSTRING);
+                startSeconds[i] = getSeconds(start);
+                startNanos[i] = getNanos(start);
+                endSeconds[i] = getSeconds(end);
+                endNanos[i] = getNanos(end);
+                ids[i] = interval.getStringValue(Constants.INTERVAL_RECORD_ID_BSTRING);
+            }
+            indexObj.addNativeData(INTERVAL_INDEX_ENTRY,
+                    new IntervalTree(startSeconds, startNanos, endSeconds, endNanos, ids));
+            return null;
+        } catch (IllegalArgumentException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        } catch (ArithmeticException e) {
+            return Utils.createError(Errors.FormatError, OUT_OF_RANGE_ERROR);
+        }
+    }
+
+    public static Object externIntervalIndexAdd(BObject indexObj, BArray start, BArray end, BString id) {
+
+        try {
+            getTree(indexObj).add(getSeconds(start), getNanos(start), getSeconds(end), getNanos(end), id);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        } catch (ArithmeticException e) {
+            return Utils.createError(Errors.FormatError, OUT_OF_RANGE_ERROR);
+        }
+    }
+
+    public static boolean externIntervalIndexRemove(BObject indexObj, BString id) {
+
+        return getTree(indexObj).remove(id.getValue());
+    }
+
+    public static Object externIntervalIndexOverlapping(BObject indexObj, BArray start, BArray end) {
+
+        List<BString> ids = new ArrayList<>();
+        try {
+            getTree(indexObj).findOverlapping(getSeconds(start), getNanos(start), getSeconds(end), getNanos(end), ids);
+        } catch (IllegalArgumentException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        } catch (ArithmeticException e) {
+            return Utils.createError(Errors.FormatError, OUT_OF_RANGE_ERROR);
+        }
+        return ValueCreator.createArrayValue(ids.toArray(new BString[0]));
+    }
+
+    public static Object externIntervalIndexContaining(BObject indexObj, BArray utc) {
+
+        List<BString> ids = new ArrayList<>();
+        try {
+            getTree(indexObj).findContaining(getSeconds(utc), getNanos(utc), ids);
+        } catch (ArithmeticException e) {
+            return Utils.createError(Errors.FormatError, OUT_OF_RANGE_ERROR);
+        }
+        return ValueCreator.createArrayValue(ids.toArray(new BString[0]));
+    }
+
+    /**
+     * Returns the seconds of the given tuple, including the whole seconds of a fraction that is not in the range
+     * [0, 1).
+     *
+     * @throws ArithmeticException if the seconds overflow
+     */
+    private static long getSeconds(BArray utc) {
+
+        BigDecimal fraction = getFraction(utc);
+        if (isNormalized(fraction)) {
+            return utc.getInt(0);
+        }
+        return Math.addExact(utc.getInt(0), fraction.setScale(0, RoundingMode.FLOOR).longValueExact());
+    }
+
+    /**
+     * Returns the nanoseconds of the part of the fraction of the given tuple that is in the range [0, 1). The
+     * digits after the nanoseconds are dropped.
+     */
+    private static long getNanos(BArray utc) {
+
+        BigDecimal fraction = getFraction(utc);
+        if (!isNormalized(fraction)) {
+            fraction = fraction.subtract(fraction.setScale(0, RoundingMode.FLOOR));
+        }
+        return fraction.movePointRight(9).longValue();
+    }
+
+    private static BigDecimal getFraction(BArray utc) {
+
+        return ((BDecimal) utc.get(1)).decimalValue();
+    }
+
+    private static boolean isNormalized(BigDecimal fraction) {
+
+        return fraction.signum() >= 0 && fraction.compareTo(BigDecimal.ONE) < 0;
+    }
+
+    private static IntervalTree getTree(BObject indexObj) {
+
+        return (IntervalTree) indexObj.getNativeData(INTERVAL_INDEX_ENTRY);
+    }
+
+}
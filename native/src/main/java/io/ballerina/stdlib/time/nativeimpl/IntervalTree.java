@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An index of half-open time intervals [start, end) with IDs. The bounds are kept as the seconds from the epoch and
+ * the nanoseconds of the second.
+ * The intervals are kept in an AVL tree ordered by their starts, where each node also holds the maximum end of its
+ * subtree. A query skips the subtrees whose maximum end is not after the start of the query and stops at the first
+ * node that starts at or after the end of the query, so it takes O(log n + k) time for k results. The results are
+ * ordered by the starts of the intervals. The queries share a read lock and the updates take a write lock.
+ *
+ * @since 2.8.1
+ */
+public class IntervalTree {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Node> nodes = new HashMap<>();
+    private Node root;
+    // Orders the intervals that have the same start by the order in which they were added.
+    private long nextSequence;
+
+    /**
+     * Creates an index of the given intervals. The tree is built in linear time if the intervals are sorted by their
+     * starts.
+     *
+     * @throws IllegalArgumentException if an interval does not end after its start or an ID is repeated
+     */
+    public IntervalTree(long[] startSeconds, long[] startNanos, long[] endSeconds, long[] endNanos, BString[] ids) {
+
+        Node[] sorted = new Node[ids.length];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = createNode(startSeconds[i], startNanos[i], endSeconds[i], endNanos[i], ids[i]);
+        }
+        // The sort is stable and takes linear time for sorted input.
+        Arrays.sort(sorted, (node1, node2) -> compare(node1.startSeconds, node1.startNanos, node2.startSeconds,
+                node2.startNanos));
+        for (Node node : sorted) {
+            node.sequence = nextSequence++;
+        }
+        root = build(sorted, 0, sorted.length - 1);
+    }
+
+    /**
+     * Adds an interval.
+     *
+     * @throws IllegalArgumentException if the interval does not end after its start or its ID is already used
+     */
+    public void add(long startSeconds, long startNanos, long endSeconds, long endNanos, BString id) {
+
+        lock.writeLock().lock();
+        try {
+            Node node = createNode(startSeconds, startNanos, endSeconds, endNanos, id);
+            node.sequence = nextSequence++;
+            root = insert(root, node);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the interval of the given ID.
+     *
+     * @return true if the interval was found
+     */
+    public boolean remove(String id) {
+
+        lock.writeLock().lock();
+        try {
+            Node node = nodes.remove(id);
+            if (node == null) {
+                return false;
+            }
+            root = delete(root, node);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the IDs of the intervals that overlap the interval [start, end) to the given list.
+     *
+     * @throws IllegalArgumentException if the range does not end after its start
+     */
+    public void findOverlapping(long startSeconds, long startNanos, long endSeconds, long endNanos,
+                                List<BString> ids) {
+
+        if (compare(endSeconds, endNanos, startSeconds, startNanos) <= 0) {
+            throw new IllegalArgumentException("The end of the range should be after its start");
+        }
+        lock.readLock().lock();
+        try {
+            collect(root, startSeconds, startNanos, endSeconds, endNanos, ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the IDs of the intervals that contain the given instant to the given list.
+     */
+    public void findContaining(long seconds, long nanos, List<BString> ids) {
+
+        // An interval [start, end) contains an instant if it overlaps the interval that ends a nanosecond later.
+        long endNanos = nanos + 1;
+        long endSeconds = seconds;
+        if (endNanos == NANOS_PER_SECOND) {
+            if (seconds == Long.MAX_VALUE) {
+                // The instant can only be the end of an interval, which is not contained.
+                return;
+            }
+            endSeconds++;
+            endNanos = 0;
+        }
+        findOverlapping(seconds, nanos, endSeconds, endNanos, ids);
+    }
+
+    private Node createNode(long startSeconds, long startNanos, long endSeconds, long endNanos, BString id) {
+
+        if (compare(endSeconds, endNanos, startSeconds, startNanos) <= 0) {
+            throw new IllegalArgumentException("The end of the interval '" + id.getValue()
+                    + "' should be after its start");
+        }
+        Node node = new Node(startSeconds, startNanos, endSeconds, endNanos, id);
+        if (nodes.putIfAbsent(id.getValue(), node) != null) {
+            throw new IllegalArgumentException("An interval with the ID '" + id.getValue() + "' already exists");
+        }
+        return node;
+    }
+
+    private static void collect(Node node, long startSeconds, long startNanos, long endSeconds, long endNanos,
+                                List<BString> ids) {
+
+        while (node != null && compare(node.maxEndSeconds, node.maxEndNanos, startSeconds, startNanos) > 0) {
+            collect(node.left, startSeconds, startNanos, endSeconds, endNanos, ids);
+            if (compare(node.startSeconds, node.startNanos, endSeconds, endNanos) >= 0) {
+                // This node and the nodes of its right subtree start at or after the end of the query.
+                return;
+            }
+            if (compare(node.endSeconds, node.endNanos, startSeconds, startNanos) > 0) {
+                ids.add(node.id);
+            }
+            node = node.right;
+        }
+    }
+
+    private static Node build(Node[] sorted, int low, int high) {
+
+        if (low > high) {
+            return null;
+        }
+        int middle = (low + high) >>> 1;
+        Node node = sorted[middle];
+        node.left = build(sorted, low, middle - 1);
+        node.right = build(sorted, middle + 1, high);
+        update(node);
+        return node;
+    }
+
+    private static Node insert(Node node, Node inserted) {
+
+        if (node == null) {
+            return inserted;
+        }
+        if (compareKeys(inserted, node) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        return balance(node);
+    }
+
+    private static Node delete(Node node, Node deleted) {
+
+        int result = compareKeys(deleted, node);
+        if (result < 0) {
+            node.left = delete(node.left, deleted);
+        } else if (result > 0) {
+            node.right = delete(node.right, deleted);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // Replaces the node with its successor, since the nodes are referred to by their IDs.
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteFirst(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return balance(node);
+    }
+
+    private static Node deleteFirst(Node node) {
+
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteFirst(node.left);
+        return balance(node);
+    }
+
+    private static Node balance(Node node) {
+
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        update(node);
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    /**
+     * Recomputes the height and the maximum end of the given node from its children.
+     */
+    private static void update(Node node) {
+
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.maxEndSeconds = node.endSeconds;
+        node.maxEndNanos = node.endNanos;
+        raiseMaxEnd(node, node.left);
+        raiseMaxEnd(node, node.right);
+    }
+
+    private static void raiseMaxEnd(Node node, Node child) {
+
+        if (child != null && compare(child.maxEndSeconds, child.maxEndNanos, node.maxEndSeconds,
+                node.maxEndNanos) > 0) {
+            node.maxEndSeconds = child.maxEndSeconds;
+            node.maxEndNanos = child.maxEndNanos;
+        }
+    }
+
+    private static int height(Node node) {
+
+        return node == null ? 0 : node.height;
+    }
+
+    private static int compareKeys(Node node1, Node node2) {
+
+        int result = compare(node1.startSeconds, node1.startNanos, node2.startSeconds, node2.startNanos);
+        return result != 0 ? result : Long.compare(node1.sequence, node2.sequence);
+    }
+
+    private static int compare(long seconds1, long nanos1, long seconds2, long nanos2) {
+
+        int result = Long.compare(seconds1, seconds2);
+        return result != 0 ? result : Long.compare(nanos1, nanos2);
+    }
+
+    /**
+     * A node of the tree, which holds an interval.
+     */
+    private static final class Node {
+
+        private final long startSeconds;
+        private final long startNanos;
+        private final long endSeconds;
+        private final long endNanos;
+        private final BString id;
+        private long sequence;
+        private Node left;
+        private Node right;
+        private int height;
+        private long maxEndSeconds;
+        private long maxEndNanos;
+
+        private Node(long startSeconds, long startNanos, long endSeconds, long endNanos, BString id) {
+
+            this.startSeconds = startSeconds;
+            this.startNanos = startNanos;
+            this.endSeconds = endSeconds;
+            this.endNanos = endNanos;
+            this.id = id;
+            height = 1;
+            maxEndSeconds = endSeconds;
+            maxEndNanos = endNanos;
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket rate limiter on the `System.nanoTime()` clock, which follows the generic cell rate algorithm.
+ * Instead of a number of tokens and a refill time, the whole state of the bucket is the time at which it would be
+ * full again, which is called the theoretical arrival time. Acquiring permits moves that time forward by the emission
+ * interval of each permit, and the permits are available if it stays within the burst tolerance of the current time.
+ * Since the state is a single long, it is updated with a compare-and-set loop without any lock, and a denied attempt
+ * only reads it, so the attempts that are throttled do not contend with each other.
+ *
+ * @since 2.8.1
+ */
+public class RateLimiter {
+
+    // Keeps the differences between the `System.nanoTime()` values of the limiter away from overflowing.
+    public static final long MAX_TOLERANCE_NANOS = Long.MAX_VALUE / 4;
+
+    private final long intervalNanos;
+    private final long burst;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * Creates a rate limiter whose bucket is full.
+     *
+     * @param intervalNanos the nanoseconds between two permits at the sustained rate
+     * @param burst         the maximum number of permits that can be acquired at once
+     * @throws IllegalArgumentException if the interval or the burst is not positive or the bucket holds too many
+     *                                  nanoseconds
+     */
+    public RateLimiter(long intervalNanos, long burst) {
+
+        if (intervalNanos <= 0) {
+            throw new IllegalArgumentException("The rate should be positive and at most one billion permits per "
+                    + "second");
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("The burst should be positive");
+        }
+        if (burst > MAX_TOLERANCE_NANOS / intervalNanos) {
+            throw new IllegalArgumentException("The burst should be at most " + MAX_TOLERANCE_NANOS / intervalNanos
+                    + " permits at this rate");
+        }
+        this.intervalNanos = intervalNanos;
+        this.burst = burst;
+        toleranceNanos = intervalNanos * burst;
+        theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Acquires the given number of permits if they are available now.
+     *
+     * @return true if the permits were acquired
+     * @throws IllegalArgumentException if the number of permits is not between one and the burst
+     */
+    public boolean tryAcquire(long permits) {
+
+        long cost = getCost(permits);
+        while (true) {
+            long now = System.nanoTime();
+            long previous = theoreticalArrival.get();
+            long next = Math.max(previous - now, 0) + cost;
+            if (next > toleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(previous, now + next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reserves the given number of permits, which may only become available in the future.
+     *
+     * @return the `System.nanoTime()` value at which the permits become available, which is not before the current
+     * time
+     * @throws IllegalArgumentException if the number of permits is not between one and the burst
+     * @throws IllegalStateException    if the permits reserved before are only available too far in the future
+     */
+    public long reserve(long permits) {
+
+        long cost = getCost(permits);
+        while (true) {
+            long now = System.nanoTime();
+            long previous = theoreticalArrival.get();
+            if (previous - now > 2 * MAX_TOLERANCE_NANOS) {
+                throw new IllegalStateException("The permits reserved so far are only available after more than "
+                        + 2 * MAX_TOLERANCE_NANOS / 1_000_000_000L + " seconds");
+            }
+            long next = Math.max(previous - now, 0) + cost;
+            if (theoreticalArrival.compareAndSet(previous, now + next)) {
+                return now + Math.max(next - toleranceNanos, 0);
+            }
+        }
+    }
+
+    private long getCost(long permits) {
+
+        if (permits < 1 || permits > burst) {
+            throw new IllegalArgumentException("The number of permits should be between 1 and the burst of " + burst);
+        }
+        return permits * intervalNanos;
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.time.util.Constants;
+import io.ballerina.stdlib.time.util.Errors;
+import io.ballerina.stdlib.time.util.Utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Contains the extern APIs related to the Ballerina RateLimiter type.
+ *
+ * @since 2.8.1
+ */
+public class RateLimiterExternUtils {
+
+    private static final String RATE_LIMITER_ENTRY = "rateLimiter";
+
+    private RateLimiterExternUtils() {
+
+    }
+
+    public static Object externRateLimiterInit(BObject limiterObj, BDecimal permitsPerSecond, long burst) {
+
+        BigDecimal rate = permitsPerSecond.decimalValue();
+        long intervalNanos = 0;
+        if (rate.signum() > 0 && rate.compareTo(Constants.ANALOG_GIGA) <= 0) {
+            intervalNanos = Constants.ANALOG_GIGA.divide(rate, 0, RoundingMode.HALF_UP).min(
+                    BigDecimal.valueOf(RateLimiter.MAX_TOLERANCE_NANOS)).longValue();
+        }
+        try {
+            limiterObj.addNativeData(RATE_LIMITER_ENTRY, new RateLimiter(intervalNanos, burst));
+            return null;
+        } catch (IllegalArgumentException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+    }
+
+    public static Object externRateLimiterTryAcquire(BObject limiterObj, long permits) {
+
+        try {
+            return getLimiter(limiterObj).tryAcquire(permits);
+        } catch (IllegalArgumentException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+    }
+
+    public static Object externRateLimiterAcquireDeadline(BObject limiterObj, long permits) {
+
+        try {
+            return DeadlineExternUtils.createDeadline(getLimiter(limiterObj).reserve(permits));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+    }
+
+    private static RateLimiter getLimiter(BObject limiterObj) {
+
+        return (RateLimiter) limiterObj.getNativeData(RATE_LIMITER_ENTRY);
+    }
+
+}
@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.Locale;
+
+/**
+ * Contains the APIs related to Ballerina Recurrence type. A recurrence is a cron expression compiled into bit masks
+ * (one per field), so that the next and previous fire times are found by skipping whole fields.
+ *
+ * @since 2.8.1
+ */
+public class Recurrence {
+
+    private static final String[] MONTH_NAMES = {"JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP",
+            "OCT", "NOV", "DEC"};
+    private static final String[] DAY_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+    private static final int[] DAYS_IN_MONTH = {0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+    private static final int[] DAY_OF_WEEK_OFFSETS = {0, 3, 2, 5, 0, 3, 5, 1, 4, 6, 2, 4};
+    // Years to be searched before deciding that a rule never fires (e.g. `0 0 30 2 *`).
+    private static final int SEARCH_YEARS = 400;
+    // Bounds the DST adjustments of a single lookup.
+    private static final int MAX_ATTEMPTS = 8;
+
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final long months;
+    private final long daysOfWeek;
+    private final boolean daysOfMonthRestricted;
+    private final boolean daysOfWeekRestricted;
+    private final ZoneId zoneId;
+
+    /**
+     * Compiles a cron expression. The expression has five fields (`minute hour day-of-month month day-of-week`) or
+     * six fields with a leading `second` field. Each field accepts `*`, `?`, values, ranges (`a-b`), steps (`a-b/n`,
+     * `a/n` and `*` followed by `/n`) and comma separated lists of them. Months and days of the week also accept
+     * their three-letter names, and `7` is accepted as Sunday. The `@yearly`, `@annually`, `@monthly`, `@weekly`,
+     * `@daily`, `@midnight` and `@hourly` macros are supported as well.
+     *
+     * @param expression The cron expression
+     * @param zoneId     The zone in which the expression is evaluated
+     * @throws IllegalArgumentException If the expression is invalid
+     */
+    public Recurrence(String expression, ZoneId zoneId) {
+
+        String[] fields = expandMacro(expression.strip()).split("\\s+");
+        if (fields.length != 5 && fields.length != 6) {
+            throw new IllegalArgumentException("Invalid cron expression '" + expression +
+                    "': expected 5 or 6 fields but found " + fields.length);
+        }
+        int index = 0;
+        if (fields.length == 6) {
+            this.seconds = parseField(fields[index++], 0, 59, null, expression);
+        } else {
+            this.seconds = 1L;
+        }
+        this.minutes = parseField(fields[index++], 0, 59, null, expression);
+        this.hours = parseField(fields[index++], 0, 23, null, expression);
+        this.daysOfMonthRestricted = isRestricted(fields[index]);
+        this.daysOfMonth = parseField(fields[index++], 1, 31, null, expression);
+        this.months = parseField(fields[index++], 1, 12, MONTH_NAMES, expression);
+        this.daysOfWeekRestricted = isRestricted(fields[index]);
+        long dayOfWeekMask = parseField(fields[index], 0, 7, DAY_NAMES, expression);
+        // Both 0 and 7 represent Sunday.
+        this.daysOfWeek = (dayOfWeekMask | (dayOfWeekMask >>> 7)) & 0x7FL;
+        this.zoneId = zoneId;
+    }
+
+    /**
+     * Returns the first fire time strictly after the given instant. Local date-times that fall into a DST gap are
+     * moved forward by the length of the gap and the ones that fall into a DST overlap fire only once, with the
+     * earlier offset.
+     *
+     * @param after The instant after which the fire time is searched
+     * @return The next fire time or null if the expression never fires again
+     */
+    public Instant next(Instant after) {
+
+        ZonedDateTime afterDateTime = after.atZone(zoneId);
+        LocalDateTime candidate = afterDateTime.toLocalDateTime().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            LocalDateTime local = nextLocal(candidate);
+            if (local == null) {
+                return null;
+            }
+            Instant fireTime = ZonedDateTime.ofLocal(local, zoneId, null).toInstant();
+            if (fireTime.isAfter(after)) {
+                return fireTime;
+            }
+            // The given instant is in the second half of an overlap. The local date-times of the overlap have
+            // already fired with the earlier offset.
+            ZoneOffsetTransition transition = zoneId.getRules().getTransition(local);
+            candidate = transition != null ? transition.getDateTimeBefore() : local.plusSeconds(1);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the last fire time strictly before the given instant. The DST gaps and overlaps are handled in the same
+     * way as in {@link #next}.
+     *
+     * @param before The instant before which the fire time is searched
+     * @return The previous fire time or null if the expression never fired before
+     */
+    public Instant previous(Instant before) {
+
+        ZonedDateTime beforeDateTime = before.atZone(zoneId);
+        LocalDateTime candidate = beforeDateTime.toLocalDateTime().truncatedTo(ChronoUnit.SECONDS);
+        if (before.getNano() == 0) {
+            candidate = candidate.minusSeconds(1);
+        }
+        ZoneOffsetTransition overlap = zoneId.getRules().getTransition(beforeDateTime.toLocalDateTime());
+        if (overlap != null && overlap.isOverlap() && beforeDateTime.getOffset().equals(overlap.getOffsetAfter())) {
+            // The given instant is in the second half of an overlap. All the local date-times of the overlap have
+            // already fired with the earlier offset, so the search starts from the end of the overlap.
+            candidate = overlap.getDateTimeBefore().minusSeconds(1);
+        }
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            LocalDateTime local = previousLocal(candidate);
+            if (local == null) {
+                return null;
+            }
+            Instant fireTime = ZonedDateTime.ofLocal(local, zoneId, null).toInstant();
+            if (fireTime.isBefore(before)) {
+                return fireTime;
+            }
+            // The local date-time is in a gap, which has been moved past the given instant.
+            ZoneOffsetTransition transition = zoneId.getRules().getTransition(local);
+            candidate = transition != null ? transition.getDateTimeBefore().minusSeconds(1) : local.minusSeconds(1);
+        }
+        return null;
+    }
+
+    private LocalDateTime nextLocal(LocalDateTime from) {
+
+        int year = from.getYear();
+        int month = from.getMonthValue();
+        int day = from.getDayOfMonth();
+        int hour = from.getHour();
+        int minute = from.getMinute();
+        int second = from.getSecond();
+        int lastYear = year + SEARCH_YEARS;
+        while (year <= lastYear) {
+            int nextMonth = nextSetBit(months, month);
+            if (nextMonth < 0) {
+                year++;
+                month = 1;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextMonth != month) {
+                month = nextMonth;
+                day = 1;
+                hour = minute = second = 0;
+            }
+            if (!daysOfWeekRestricted) {
+                int nextDay = nextSetBit(daysOfMonth, day);
+                if (nextDay < 0) {
+                    nextDay = Integer.MAX_VALUE;
+                }
+                if (nextDay != day) {
+                    day = nextDay;
+                    hour = minute = second = 0;
+                }
+            }
+            if (day > lengthOfMonth(year, month)) {
+                month++;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (!matchesDay(year, month, day)) {
+                day++;
+                hour = minute = second = 0;
+                continue;
+            }
+            int nextHour = nextSetBit(hours, hour);
+            if (nextHour < 0) {
+                day++;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextHour != hour) {
+                hour = nextHour;
+                minute = second = 0;
+            }
+            int nextMinute = nextSetBit(minutes, minute);
+            if (nextMinute < 0) {
+                hour++;
+                minute = second = 0;
+                continue;
+            }
+            if (nextMinute != minute) {
+                minute = nextMinute;
+                second = 0;
+            }
+            int nextSecond = nextSetBit(seconds, second);
+            if (nextSecond < 0) {
+                minute++;
+                second = 0;
+                continue;
+            }
+            return LocalDateTime.of(year, month, day, hour, minute, nextSecond);
+        }
+        return null;
+    }
+
+    private LocalDateTime previousLocal(LocalDateTime from) {
+
+        int year = from.getYear();
+        int month = from.getMonthValue();
+        int day = from.getDayOfMonth();
+        int hour = from.getHour();
+        int minute = from.getMinute();
+        int second = from.getSecond();
+        int firstYear = year - SEARCH_YEARS;
+        while (year >= firstYear) {
+            int previousMonth = previousSetBit(months, month);
+            if (previousMonth < 0) {
+                year--;
+                month = 12;
+                day = 31;
+                hour = 23;
+                minute = second = 59;
+                continue;
+            }
+            if (previousMonth != month) {
+                month = previousMonth;
+                day = 31;
+                hour = 23;
+                minute = second = 59;
+            }
+            // The day is larger than the month length only after moving to a new month, where the time is already
+            // set to the end of the day.
+            day = Math.min(day, lengthOfMonth(year, month));
+            if (!daysOfWeekRestricted) {
+                int previousDay = previousSetBit(daysOfMonth, day);
+                if (previousDay != day) {
+                    day = previousDay;
+                    hour = 23;
+                    minute = second = 59;
+                }
+            }
+            if (day < 1) {
+                month--;
+                day = 31;
+                hour = 23;
+                minute = second = 59;
+                continue;
+            }
+            if (!matchesDay(year, month, day)) {
+                day--;
+                hour = 23;
+                minute = second = 59;
+                continue;
+            }
+            int previousHour = previousSetBit(hours, hour);
+            if (previousHour < 0) {
+                day--;
+                hour = 23;
+                minute = second = 59;
+                continue;
+            }
+            if (previousHour != hour) {
+                hour = previousHour;
+                minute = second = 59;
+            }
+            int previousMinute = previousSetBit(minutes, minute);
+            if (previousMinute < 0) {
+                hour--;
+                minute = second = 59;
+                continue;
+            }
+            if (previousMinute != minute) {
+                minute = previousMinute;
+                second = 59;
+            }
+            int previousSecond = previousSetBit(seconds, second);
+            if (previousSecond < 0) {
+                minute--;
+                second = 59;
+                continue;
+            }
+            return LocalDateTime.of(year, month, day, hour, minute, previousSecond);
+        }
+        return null;
+    }
+
+    private boolean matchesDay(int year, int month, int day) {
+
+        boolean dayOfMonthMatches = (daysOfMonth & (1L << day)) != 0;
+        boolean dayOfWeekMatches = (daysOfWeek & (1L << dayOfWeek(year, month, day))) != 0;
+        // Same as in the Vixie cron, a day matches either of the fields when both of them are restricted.
+        if (daysOfMonthRestricted && daysOfWeekRestricted) {
+            return dayOfMonthMatches || dayOfWeekMatches;
+        }
+        return dayOfMonthMatches && dayOfWeekMatches;
+    }
+
+    // Returns the lowest set bit at or above the given index, or -1 if there is none.
+    private static int nextSetBit(long mask, int from) {
+
+        if (from > 63) {
+            return -1;
+        }
+        long bits = mask & (-1L << from);
+        return bits == 0 ? -1 : Long.numberOfTrailingZeros(bits);
+    }
+
+    // Returns the highest set bit at or below the given index, or -1 if there is none.
+    private static int previousSetBit(long mask, int from) {
+
+        if (from < 0) {
+            return -1;
+        }
+        long bits = from >= 63 ? mask : mask & ((1L << (from + 1)) - 1);
+        return bits == 0 ? -1 : 63 - Long.numberOfLeadingZeros(bits);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+
+        return month == 2 && Year.isLeap(year) ? 29 : DAYS_IN_MONTH[month];
+    }
+
+    // Day of the week according to the US convention (Sunday is 0).
+    private static int dayOfWeek(int year, int month, int day) {
+
+        int y = month < 3 ? year - 1 : year;
+        return Math.floorMod(y + Math.floorDiv(y, 4) - Math.floorDiv(y, 100) + Math.floorDiv(y, 400) +
+                DAY_OF_WEEK_OFFSETS[month - 1] + day, 7);
+    }
+
+    // Same as in the Vixie cron, a field that starts with `*` or `?` is not restricted, even if it has a step.
+    private static boolean isRestricted(String field) {
+
+        return !field.startsWith("*") && !field.startsWith("?");
+    }
+
+    private static String expandMacro(String expression) {
+
+        switch (expression.toLowerCase(Locale.ROOT)) {
+            case "@yearly":
+            case "@annually":
+                return "0 0 1 1 *";
+            case "@monthly":
+                return "0 0 1 * *";
+            case "@weekly":
+                return "0 0 * * 0";
+            case "@daily":
+            case "@midnight":
+                return "0 0 * * *";
+            case "@hourly":
+                return "0 * * * *";
+            default:
+                return expression;
+        }
+    }
+
+    private static long parseField(String field, int min, int max, String[] names, String expression) {
+
+        long mask = 0;
+        for (String part : field.split(",")) {
+            String range = part;
+            int step = 1;
+            int stepIndex = part.indexOf('/');
+            if (stepIndex >= 0) {
+                range = part.substring(0, stepIndex);
+                step = parseValue(part.substring(stepIndex + 1), 1, max, null, expression);
+            }
+            int low;
+            int high;
+            if ("*".equals(range) || "?".equals(range)) {
+                low = min;
+                high = max;
+            } else {
+                int rangeIndex = range.indexOf('-');
+                if (rangeIndex >= 0) {
+                    low = parseValue(range.substring(0, rangeIndex), min, max, names, expression);
+                    high = parseValue(range.substring(rangeIndex + 1), min, max, names, expression);
+                } else {
+                    low = parseValue(range, min, max, names, expression);
+                    high = stepIndex >= 0 ? max : low;
+                }
+                if (low > high) {
+                    throw new IllegalArgumentException("Invalid cron expression '" + expression +
+                            "': invalid range '" + range + "'");
+                }
+            }
+            for (int value = low; value <= high; value += step) {
+                mask |= 1L << value;
+            }
+        }
+        return mask;
+    }
+
+    private static int parseValue(String value, int min, int max, String[] names, String expression) {
+
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equalsIgnoreCase(value)) {
+                    return names == MONTH_NAMES ? i + 1 : i;
+                }
+            }
+        }
+        try {
+            int parsedValue = Integer.parseInt(value);
+            if (parsedValue >= min && parsedValue <= max) {
+                return parsedValue;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below with the offending value.
+        }
+        throw new IllegalArgumentException("Invalid cron expression '" + expression + "': invalid value '" + value +
+                "'");
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.time.util.Errors;
+import io.ballerina.stdlib.time.util.Utils;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Contains the extern APIs related to Ballerina Recurrence type generations and operations.
+ *
+ * @since 2.8.1
+ */
+public class RecurrenceExternUtils {
+
+    private static final String RECURRENCE_ENTRY = "recurrence";
+    // Bounds the memory of a single `nextN` call.
+    private static final int MAX_FIRE_TIMES = 10_000;
+
+    private RecurrenceExternUtils() {
+
+    }
+
+    public static Object externRecurrenceInit(BObject recurrenceObj, BString expression, Object zoneObj) {
+
+        ZoneId zoneId = ZoneOffset.UTC;
+        if (zoneObj != null) {
+            Zone zone = TimeZoneExternUtils.getNativeZone((BObject) zoneObj);
+            if (zone == null) {
+                return Utils.createError(Errors.FormatError, "Recurrences support only `time:TimeZone` zones");
+            }
+            zoneId = zone.getZoneId();
+        }
+        try {
+            recurrenceObj.addNativeData(RECURRENCE_ENTRY, new Recurrence(expression.getValue(), zoneId));
+            return null;
+        } catch (IllegalArgumentException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+    }
+
+    public static Object externRecurrenceNext(BObject recurrenceObj, BArray after) {
+
+        Recurrence recurrence = (Recurrence) recurrenceObj.getNativeData(RECURRENCE_ENTRY);
+        Instant next = recurrence.next(new Utc(after).generateInstant());
+        return next == null ? null : new Utc(next).build();
+    }
+
+    public static Object externRecurrenceNextN(BObject recurrenceObj, BArray after, long count) {
+
+        if (count < 0 || count > MAX_FIRE_TIMES) {
+            return Utils.createError(Errors.FormatError, "The count should be between 0 and " + MAX_FIRE_TIMES
+                    + ": " + count);
+        }
+        Recurrence recurrence = (Recurrence) recurrenceObj.getNativeData(RECURRENCE_ENTRY);
+        List<BArray> utcList = new ArrayList<>();
+        Instant next = new Utc(after).generateInstant();
+        while (utcList.size() < count && (next = recurrence.next(next)) != null) {
+            utcList.add(new Utc(next).build());
+        }
+        return Utils.createUtcArray(utcList);
+    }
+
+    public static Object externRecurrencePrevious(BObject recurrenceObj, BArray before) {
+
+        Recurrence recurrence = (Recurrence) recurrenceObj.getNativeData(RECURRENCE_ENTRY);
+        Instant previous = recurrence.previous(new Utc(before).generateInstant());
+        return previous == null ? null : new Utc(previous).build();
+    }
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.time.util.Errors;
+import io.ballerina.stdlib.time.util.Utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contains the extern APIs related to the Ballerina TimeOrderedIdGenerator type.
+ * Both the UUIDv7 and the ULID formats start with the 48-bit milliseconds from the epoch, which are followed by a
+ * 12-bit counter and random bits. The milliseconds and the counter of the last ID are packed into a long, which is
+ * updated with a compare-and-set loop. When the counter of a millisecond is full, the next ID moves to the next
+ * millisecond. A striped generator keeps a separate long for each of several threads.
+ *
+ * @since 2.8.1
+ */
+public class TimeOrderedIdExternUtils {
+
+    private static final String ID_GENERATOR_ENTRY = "idGenerator";
+    private static final String ULID_FORMAT = "ULID";
+    private static final int COUNTER_BITS = 12;
+    private static final long MAX_MILLIS = (1L << 48) - 1;
+    // A batch takes at most the counter values of one millisecond, so that it does not move the state far ahead of
+    // the clock.
+    private static final int MAX_BATCH_SIZE = 1 << COUNTER_BITS;
+    private static final int ID_BYTES = 16;
+    private static final int UUID_LENGTH = 36;
+    private static final int ULID_LENGTH = 26;
+    // Places each stripe in a separate 128-byte block to avoid false sharing between the cores.
+    private static final int STRIPE_STRIDE = 16;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final char[] CROCKFORD_DIGITS = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private TimeOrderedIdExternUtils() {
+
+    }
+
+    public static void externIdGeneratorInit(BObject generatorObj, BString format, boolean striped) {
+
+        int stripes = striped ? Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) : 1;
+        generatorObj.addNativeData(ID_GENERATOR_ENTRY,
+                new State(ULID_FORMAT.equals(format.getValue()), new AtomicLongArray(stripes * STRIPE_STRIDE)));
+    }
+
+    public static BString externIdGeneratorNextId(BObject generatorObj) {
+
+        State state = getState(generatorObj);
+        return toIdString(reserve(state, 1), state.ulid);
+    }
+
+    public static BArray externIdGeneratorNextIdBytes(BObject generatorObj) {
+
+        State state = getState(generatorObj);
+        byte[] id = new byte[ID_BYTES];
+        fill(id, reserve(state, 1), state.ulid);
+        return ValueCreator.createArrayValue(id);
+    }
+
+    public static Object externIdGeneratorNextIds(BObject generatorObj, long count) {
+
+        if (count < 0 || count > MAX_BATCH_SIZE) {
+            return Utils.createError(Errors.FormatError, "The number of IDs should be between 0 and "
+                    + MAX_BATCH_SIZE + ": " + count);
+        }
+        State state = getState(generatorObj);
+        BString[] ids = new BString[(int) count];
+        if (count > 0) {
+            long first = reserve(state, (int) count);
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = toIdString(first + i, state.ulid);
+            }
+        }
+        return ValueCreator.createArrayValue(ids);
+    }
+
+    public static Object externIdToUtc(Object id) {
+
+        long millis;
+        if (id instanceof BArray) {
+            BArray bytes = (BArray) id;
+            millis = bytes.size() == ID_BYTES ? decodeBytes(bytes) : -1;
+        } else {
+            String value = ((BString) id).getValue();
+            if (value.length() == UUID_LENGTH) {
+                millis = decodeUuid(value);
+            } else if (value.length() == ULID_LENGTH) {
+                millis = decodeUlid(value);
+            } else {
+                millis = -1;
+            }
+        }
+        if (millis < 0) {
+            return Utils.createError(Errors.FormatError, "Invalid time-ordered ID: " + (id instanceof BArray ?
+                    ((BArray) id).size() + " bytes" : ((BString) id).getValue()));
+        }
+        return new Utc(Instant.ofEpochMilli(millis)).build();
+    }
+
+    /**
+     * Reserves the given number of consecutive timestamps and returns the first one.
+     */
+    private static long reserve(State state, int count) {
+
+        AtomicLongArray stripes = state.stripes;
+        int index = 0;
+        if (stripes.length() > STRIPE_STRIDE) {
+            int hash = System.identityHashCode(Thread.currentThread());
+            index = ((hash ^ (hash >>> 16)) & (stripes.length() / STRIPE_STRIDE - 1)) * STRIPE_STRIDE;
+        }
+        while (true) {
+            long previous = stripes.get(index);
+            long next = Math.max(previous + 1, System.currentTimeMillis() << COUNTER_BITS);
+            if (stripes.compareAndSet(index, previous, next + count - 1)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Writes the ID of the given packed milliseconds and counter into the given 16 bytes.
+     */
+    private static void fill(byte[] id, long timestamp, boolean ulid) {
+
+        long millis = (timestamp >>> COUNTER_BITS) & MAX_MILLIS;
+        int counter = (int) timestamp & ((1 << COUNTER_BITS) - 1);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high;
+        long low = random.nextLong();
+        if (ulid) {
+            high = millis << 16 | counter << 4 | random.nextInt(16);
+        } else {
+            // Sets the version 7 and the variant 0b10 of RFC 9562.
+            high = millis << 16 | 0x7000 | counter;
+            low = low & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        }
+        for (int i = 0; i < 8; i++) {
+            id[i] = (byte) (high >>> (56 - 8 * i));
+            id[i + 8] = (byte) (low >>> (56 - 8 * i));
+        }
+    }
+
+    private static BString toIdString(long timestamp, boolean ulid) {
+
+        byte[] id = new byte[ID_BYTES];
+        fill(id, timestamp, ulid);
+        byte[] text;
+        if (ulid) {
+            // 26 base32 digits hold 130 bits, so the 128 bits of the ID are preceded by 2 zero bits.
+            text = new byte[ULID_LENGTH];
+            int buffer = 0;
+            int bits = 2;
+            int position = 0;
+            for (byte value : id) {
+                buffer = buffer << 8 | (value & 0xFF);
+                bits += 8;
+                while (bits >= 5) {
+                    bits -= 5;
+                    text[position++] = (byte) CROCKFORD_DIGITS[(buffer >>> bits) & 0x1F];
+                }
+            }
+        } else {
+            text = new byte[UUID_LENGTH];
+            int position = 0;
+            for (int i = 0; i < ID_BYTES; i++) {
+                if (i == 4 || i == 6 || i == 8 || i == 10) {
+                    text[position++] = '-';
+                }
+                text[position++] = (byte) HEX_DIGITS[(id[i] >>> 4) & 0xF];
+                text[position++] = (byte) HEX_DIGITS[id[i] & 0xF];
+            }
+        }
+        return StringUtils.fromString(new String(text, StandardCharsets.US_ASCII));
+    }
+
+    private static long decodeBytes(BArray bytes) {
+
+        long millis = 0;
+        for (int i = 0; i < 6; i++) {
+            millis = millis << 8 | (bytes.getByte(i) & 0xFF);
+        }
+        return millis;
+    }
+
+    private static long decodeUuid(String value) {
+
+        long millis = 0;
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return -1;
+                }
+                continue;
+            }
+            int digit = Character.digit(c, 16);
+            if (digit < 0 || (i == 14 && digit != 7)) {
+                return -1;
+            }
+            if (i < 13) {
+                millis = millis << 4 | digit;
+            }
+        }
+        return millis;
+    }
+
+    private static long decodeUlid(String value) {
+
+        long millis = 0;
+        for (int i = 0; i < ULID_LENGTH; i++) {
+            int digit = getCrockfordDigit(value.charAt(i));
+            if (digit < 0 || (i == 0 && digit > 7)) {
+                return -1;
+            }
+            if (i < 10) {
+                millis = millis << 5 | digit;
+            }
+        }
+        // The first digit holds only the 2 padding bits and the 3 most significant bits of the milliseconds.
+        return millis;
+    }
+
+    private static int getCrockfordDigit(char c) {
+
+        char upper = Character.toUpperCase(c);
+        for (int digit = 0; digit < CROCKFORD_DIGITS.length; digit++) {
+            if (CROCKFORD_DIGITS[digit] == upper) {
+                return digit;
+            }
+        }
+        return -1;
+    }
+
+    private static State getState(BObject generatorObj) {
+
+        return (State) generatorObj.getNativeData(ID_GENERATOR_ENTRY);
+    }
+
+    /**
+     * The native state of a time-ordered ID generator.
+     */
+    private static final class State {
+
+        private final boolean ulid;
+        private final AtomicLongArray stripes;
+
+        private State(boolean ulid, AtomicLongArray stripes) {
+
+            this.ulid = ulid;
+            this.stripes = stripes;
+        }
+    }
+
+}
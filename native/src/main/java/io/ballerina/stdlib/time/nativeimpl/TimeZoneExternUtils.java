@@ -17,6 +17,7 @@
  */
 package io.ballerina.stdlib.time.nativeimpl;
 
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
@@ -25,8 +26,14 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.time.util.Errors;
 import io.ballerina.stdlib.time.util.Utils;
 
+import java.math.BigDecimal;
 import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Contains the extern APIs related to Ballerina TimeZone type generations and operations.
@@ -36,11 +43,18 @@ import java.time.ZonedDateTime;
 public class TimeZoneExternUtils {
 
     private static final String ZONE_ID_ENTRY = "zoneId";
+    private static final String WARM_UP_THREAD_NAME = "ballerina-time-warm-up";
 
     private TimeZoneExternUtils() {
 
     }
 
+    // Returns the native zone of a `time:TimeZone` object or null if the object is some other `time:Zone`.
+    static Zone getNativeZone(BObject timeZoneObj) {
+
+        return (Zone) timeZoneObj.getNativeData(ZONE_ID_ENTRY);
+    }
+
     public static Object externTimeZoneInitWithSystemZone(BObject timeZoneObj) {
 
         try {
@@ -54,10 +68,45 @@ public class TimeZoneExternUtils {
 
     public static void externTimeZoneInitWithId(BObject timeZoneObj, BString zoneId) {
 
-        Zone zone = new Zone(zoneId.getValue());
+        Zone zone = Zone.of(zoneId.getValue());
         timeZoneObj.addNativeData(ZONE_ID_ENTRY, zone);
     }
 
+    public static Object externWarmUp(BArray zoneIds) {
+
+        long startTime = System.nanoTime();
+        try {
+            for (String zoneId : zoneIds.getStringArray()) {
+                Zone.warmUp(zoneId);
+            }
+        } catch (DateTimeException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(System.nanoTime() - startTime, 9));
+    }
+
+    public static Object externWarmUpInBackground(BArray zoneIds) {
+
+        String[] zoneIdArray = zoneIds.getStringArray();
+        // The zone IDs are validated up front, so that an invalid ID fails the module initialization in the same way
+        // as in the `warmUp` function.
+        try {
+            for (String zoneId : zoneIdArray) {
+                ZoneId.of(zoneId);
+            }
+        } catch (DateTimeException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+        Thread warmUpThread = new Thread(() -> {
+            for (String zoneId : zoneIdArray) {
+                Zone.warmUp(zoneId);
+            }
+        }, WARM_UP_THREAD_NAME);
+        warmUpThread.setDaemon(true);
+        warmUpThread.start();
+        return null;
+    }
+
     public static Object externTimeZoneFixedOffset(BObject timeZoneObj) {
 
         Zone zone = (Zone) timeZoneObj.getNativeData(ZONE_ID_ENTRY);
@@ -77,7 +126,7 @@ public class TimeZoneExternUtils {
     public static BMap externTimeZoneUtcToCivil(BObject timeZoneObj, BArray utc) {
 
         Zone zone = (Zone) timeZoneObj.getNativeData(ZONE_ID_ENTRY);
-        return zone.utcToCivil(new Utc(utc)).build();
+        return zone.toCivilRecord(new Utc(utc).generateInstant());
     }
 
     public static Object externTimeZoneCivilAddDuration(BObject timeZoneObj, int year, int month,
@@ -98,4 +147,82 @@ public class TimeZoneExternUtils {
         }
     }
 
+    public static Object externTimeZoneTransitions(BObject timeZoneObj, BArray from, BArray to) {
+
+        Zone zone = (Zone) timeZoneObj.getNativeData(ZONE_ID_ENTRY);
+        try {
+            return Utils.createZoneTransitionArray(zone.transitions(new Utc(from).generateInstant(),
+                    new Utc(to).generateInstant()));
+        } catch (DateTimeException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+    }
+
+    public static Object externTimeZoneNextTransition(BObject timeZoneObj, BArray utc) {
+
+        Zone zone = (Zone) timeZoneObj.getNativeData(ZONE_ID_ENTRY);
+        ZoneOffsetTransition transition = zone.nextTransition(new Utc(utc).generateInstant());
+        return transition == null ? null : Utils.createZoneTransition(transition);
+    }
+
+    public static Object externTimeZoneCivilSeries(BObject timeZoneObj, int year, int month, int day, int hour,
+                                                   int minute, BDecimal second, int zoneHour, int zoneMinute,
+                                                   BDecimal zoneSecond, BString zoneAbbrev, BString zoneHandling,
+                                                   int duYears, int duMonths, int duDays, int duHours,
+                                                   int duMinutes, BDecimal duSeconds, Object end) {
+        try {
+            List<ZonedDateTime> members = generateSeries(timeZoneObj, year, month, day, hour, minute, second,
+                    zoneHour, zoneMinute, zoneSecond, zoneAbbrev, zoneHandling, duYears, duMonths, duDays, duHours,
+                    duMinutes, duSeconds, end);
+            Object[] civils = new Object[members.size()];
+            for (int i = 0; i < civils.length; i++) {
+                civils[i] = new Civil(members.get(i)).build();
+            }
+            return Utils.createCivilArray(civils);
+        } catch (DateTimeException | ArithmeticException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+    }
+
+    public static Object externTimeZoneUtcSeries(BObject timeZoneObj, int year, int month, int day, int hour,
+                                                 int minute, BDecimal second, int zoneHour, int zoneMinute,
+                                                 BDecimal zoneSecond, BString zoneAbbrev, BString zoneHandling,
+                                                 int duYears, int duMonths, int duDays, int duHours, int duMinutes,
+                                                 BDecimal duSeconds, Object end) {
+        try {
+            List<ZonedDateTime> members = generateSeries(timeZoneObj, year, month, day, hour, minute, second,
+                    zoneHour, zoneMinute, zoneSecond, zoneAbbrev, zoneHandling, duYears, duMonths, duDays, duHours,
+                    duMinutes, duSeconds, end);
+            List<BArray> utcList = new ArrayList<>(members.size());
+            for (ZonedDateTime member : members) {
+                utcList.add(new Utc(member.toInstant()).build());
+            }
+            return Utils.createUtcArray(utcList);
+        } catch (DateTimeException | ArithmeticException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+    }
+
+    private static List<ZonedDateTime> generateSeries(BObject timeZoneObj, int year, int month, int day, int hour,
+                                                      int minute, BDecimal second, int zoneHour, int zoneMinute,
+                                                      BDecimal zoneSecond, BString zoneAbbrev,
+                                                      BString zoneHandling, int duYears, int duMonths, int duDays,
+                                                      int duHours, int duMinutes, BDecimal duSeconds, Object end) {
+
+        Zone zone = (Zone) timeZoneObj.getNativeData(ZONE_ID_ENTRY);
+        ZonedDateTime start = Utils.createZoneDateTimeFromCivilValues(year, month, day, hour, minute, second,
+                zoneHour, zoneMinute, zoneSecond, zoneAbbrev, zoneHandling.getValue());
+        CustomDuration step = new CustomDuration(duYears, duMonths, duDays, duHours, duMinutes, duSeconds);
+        if (end instanceof Long) {
+            long count = (Long) end;
+            if (count < 0) {
+                throw new DateTimeException("The series count should be a non-negative value: " + count);
+            }
+            return zone.series(new Civil(start), step, count, null);
+        }
+        Instant until = Civil.fromRecord((BMap<BString, Object>) end, zone.getZoneId()).getZonedDateTime()
+                .toInstant();
+        return zone.series(new Civil(start), step, -1, until);
+    }
+
 }
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * A hierarchical hashed timer wheel on the `System.nanoTime()` clock, which keeps the timers of keys until they
+ * expire.
+ * The time is counted in ticks from the creation of the wheel. Each level of the wheel has a power of two number of
+ * slots, and a level covers as many ticks as all the slots of the level below it. A timer is kept in the level of the
+ * highest digit in which its tick differs from the current tick, at the slot of its own digit of that level, so
+ * scheduling and cancelling a timer take constant time. When the current tick reaches the start of a slot of a
+ * higher level, the timers of that slot are moved down to the lower levels, and the timers of the slot of the
+ * current tick in the lowest level expire. The ticks in which nothing can happen, because the lower levels are
+ * empty, are skipped. The slots are doubly linked lists of the timers, so the memory besides the slots is
+ * proportional to the number of timers. A timer never expires before its time and expires at most a tick after it.
+ *
+ * @since 2.8.1
+ */
+public class TimerWheel {
+
+    public static final int MAX_WHEEL_SIZE = 1 << 16;
+
+    private final LongSupplier clock;
+    private final long originNanos;
+    private final long tickNanos;
+    private final int bits;
+    private final int wheelSize;
+    private final int levels;
+    // The heads of the lists of the slots level by level, followed by the head of the list of the due timers.
+    private final Timer[] heads;
+    private final int dueSlot;
+    private final int[] levelCounts;
+    private final Map<String, Timer> timers = new HashMap<>();
+    private long currentTick;
+
+    /**
+     * Creates a timer wheel.
+     *
+     * @param tickNanos the nanoseconds of a tick
+     * @param wheelSize the number of slots of each level
+     * @throws IllegalArgumentException if the tick is not positive or the wheel size is not a power of two between
+     *                                  two and {@value #MAX_WHEEL_SIZE}
+     */
+    public TimerWheel(long tickNanos, int wheelSize) {
+
+        this(tickNanos, wheelSize, System::nanoTime);
+    }
+
+    /**
+     * Creates a timer wheel on the given clock, which is read instead of `System.nanoTime()`.
+     */
+    TimerWheel(long tickNanos, int wheelSize, LongSupplier clock) {
+
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("The tick should be at least one nanosecond");
+        }
+        if (wheelSize < 2 || wheelSize > MAX_WHEEL_SIZE || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("The wheel size should be a power of two between 2 and "
+                    + MAX_WHEEL_SIZE);
+        }
+        this.tickNanos = tickNanos;
+        this.wheelSize = wheelSize;
+        bits = Integer.numberOfTrailingZeros(wheelSize);
+        // The ticks are not negative, so the levels need to cover 63 bits.
+        levels = (Long.SIZE - 1 + bits - 1) / bits;
+        heads = new Timer[levels * wheelSize + 1];
+        dueSlot = levels * wheelSize;
+        levelCounts = new int[levels];
+        this.clock = clock;
+        originNanos = clock.getAsLong();
+    }
+
+    /**
+     * Schedules the timer of the given key, which replaces the timer that the key already has. A timer whose time has
+     * already come expires in the next call to {@link #expire}.
+     *
+     * @param key         the key
+     * @param targetNanos the `System.nanoTime()` value at which the timer expires
+     */
+    public synchronized void schedule(BString key, long targetNanos) {
+
+        Timer timer = timers.get(key.getValue());
+        if (timer == null) {
+            timer = new Timer(key);
+            timers.put(key.getValue(), timer);
+        } else {
+            unlink(timer);
+        }
+        long delta = targetNanos - originNanos;
+        if (targetNanos - clock.getAsLong() <= 0) {
+            // The timer has already expired, so it is returned by the next call to expire.
+            timer.tick = 0;
+        } else {
+            // The tick is rounded up, so that the timer does not expire early.
+            timer.tick = delta / tickNanos + (delta % tickNanos == 0 ? 0 : 1);
+        }
+        place(timer);
+    }
+
+    /**
+     * Cancels the timer of the given key.
+     *
+     * @return true if the key had a timer
+     */
+    public synchronized boolean cancel(String key) {
+
+        Timer timer = timers.remove(key);
+        if (timer == null) {
+            return false;
+        }
+        unlink(timer);
+        return true;
+    }
+
+    /**
+     * Advances the wheel to the current tick and removes the timers that have expired.
+     *
+     * @param keys a list that receives the keys of the expired timers in the order of their ticks
+     */
+    public synchronized void expire(List<BString> keys) {
+
+        long targetTick = (clock.getAsLong() - originNanos) / tickNanos;
+        drain(dueSlot, keys);
+        while (currentTick < targetTick) {
+            int lowestLevel = 0;
+            while (lowestLevel < levels && levelCounts[lowestLevel] == 0) {
+                lowestLevel++;
+            }
+            if (lowestLevel == levels) {
+                currentTick = targetTick;
+                return;
+            }
+            // Nothing happens before the start of the next slot of the lowest level that has timers.
+            long tick = (currentTick | ((1L << (lowestLevel * bits)) - 1)) + 1;
+            if (tick > targetTick) {
+                currentTick = targetTick;
+                return;
+            }
+            currentTick = tick;
+            int level = 0;
+            while (level + 1 < levels && (tick & ((1L << ((level + 1) * bits)) - 1)) == 0) {
+                level++;
+            }
+            for (; level > 0; level--) {
+                cascade(getSlot(level, tick));
+            }
+            drain(dueSlot, keys);
+            drain(getSlot(0, tick), keys);
+        }
+    }
+
+    /**
+     * Returns the number of timers that have not expired or been cancelled.
+     */
+    public synchronized int size() {
+
+        return timers.size();
+    }
+
+    /**
+     * Moves the timers of a slot to the lower levels.
+     */
+    private void cascade(int slot) {
+
+        Timer timer = heads[slot];
+        heads[slot] = null;
+        while (timer != null) {
+            Timer next = timer.next;
+            levelCounts[slot / wheelSize]--;
+            place(timer);
+            timer = next;
+        }
+    }
+
+    /**
+     * Removes the timers of a slot, which have expired.
+     */
+    private void drain(int slot, List<BString> keys) {
+
+        Timer timer = heads[slot];
+        heads[slot] = null;
+        while (timer != null) {
+            if (slot != dueSlot) {
+                levelCounts[slot / wheelSize]--;
+            }
+            timers.remove(timer.key.getValue());
+            keys.add(timer.key);
+            timer = timer.next;
+        }
+    }
+
+    private void place(Timer timer) {
+
+        int slot;
+        if (timer.tick <= currentTick) {
+            slot = dueSlot;
+        } else {
+            int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(timer.tick ^ currentTick)) / bits;
+            slot = getSlot(level, timer.tick);
+            levelCounts[level]++;
+        }
+        timer.slot = slot;
+        timer.previous = null;
+        timer.next = heads[slot];
+        if (timer.next != null) {
+            timer.next.previous = timer;
+        }
+        heads[slot] = timer;
+    }
+
+    private void unlink(Timer timer) {
+
+        if (timer.slot != dueSlot) {
+            levelCounts[timer.slot / wheelSize]--;
+        }
+        if (timer.previous == null) {
+            heads[timer.slot] = timer.next;
+        } else {
+            timer.previous.next = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+    }
+
+    private int getSlot(int level, long tick) {
+
+        return level * wheelSize + (int) ((tick >>> (level * bits)) & (wheelSize - 1));
+    }
+
+    /**
+     * A timer of a key, which is linked into the list of its slot.
+     */
+    private static final class Timer {
+
+        private final BString key;
+        private long tick;
+        private int slot;
+        private Timer previous;
+        private Timer next;
+
+        private Timer(BString key) {
+
+            this.key = key;
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.time.util.Constants;
+import io.ballerina.stdlib.time.util.Errors;
+import io.ballerina.stdlib.time.util.Utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Contains the extern APIs related to the Ballerina TimerWheel type.
+ * The expiry of a timer is converted to a `System.nanoTime()` value when it is scheduled. A UTC expiry is converted
+ * with the offset between the system clock and the monotonic clock at that time.
+ *
+ * @since 2.8.1
+ */
+public class TimerWheelExternUtils {
+
+    private static final String TIMER_WHEEL_ENTRY = "timerWheel";
+    private static final long MAX_DELAY_SECONDS = DeadlineExternUtils.MAX_TIMEOUT_NANOS / 1_000_000_000L;
+
+    private TimerWheelExternUtils() {
+
+    }
+
+    public static Object externTimerWheelInit(BObject wheelObj, BDecimal tick, long wheelSize) {
+
+        BigDecimal tickNanos = tick.decimalValue().multiply(Constants.ANALOG_GIGA).setScale(0, RoundingMode.DOWN);
+        try {
+            wheelObj.addNativeData(TIMER_WHEEL_ENTRY, new TimerWheel(
+                    tickNanos.min(BigDecimal.valueOf(DeadlineExternUtils.MAX_TIMEOUT_NANOS)).longValue(),
+                    (int) Math.max(Math.min(wheelSize, Integer.MAX_VALUE), 0)));
+            return null;
+        } catch (IllegalArgumentException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        }
+    }
+
+    public static void externTimerWheelSchedule(BObject wheelObj, BString key, Object expiry) {
+
+        long targetNanos;
+        if (expiry instanceof BDecimal) {
+            targetNanos = System.nanoTime() + DeadlineExternUtils.toTimeoutNanos((BDecimal) expiry);
+        } else if (expiry instanceof BObject) {
+            targetNanos = DeadlineExternUtils.getTarget((BObject) expiry);
+        } else {
+            targetNanos = System.nanoTime() + getDelayNanos((BArray) expiry);
+        }
+        getWheel(wheelObj).schedule(key, targetNanos);
+    }
+
+    public static boolean externTimerWheelCancel(BObject wheelObj, BString key) {
+
+        return getWheel(wheelObj).cancel(key.getValue());
+    }
+
+    public static BArray externTimerWheelExpired(BObject wheelObj) {
+
+        List<BString> keys = new ArrayList<>();
+        getWheel(wheelObj).expire(keys);
+        return ValueCreator.createArrayValue(keys.toArray(new BString[0]));
+    }
+
+    public static long externTimerWheelSize(BObject wheelObj) {
+
+        return getWheel(wheelObj).size();
+    }
+
+    /**
+     * Returns the nanoseconds from now until the given UTC time according to the system clock, which are limited to
+     * about 146 years on either side.
+     */
+    private static long getDelayNanos(BArray utc) {
+
+        long seconds = utc.getInt(0);
+        BigDecimal fraction = ((BDecimal) utc.get(1)).decimalValue();
+        long nanos;
+        if (fraction.signum() >= 0 && fraction.compareTo(BigDecimal.ONE) < 0) {
+            nanos = fraction.movePointRight(9).longValue();
+        } else {
+            BigDecimal wholeSeconds = fraction.setScale(0, RoundingMode.FLOOR);
+            BigDecimal totalSeconds = wholeSeconds.add(BigDecimal.valueOf(seconds));
+            seconds = totalSeconds.max(BigDecimal.valueOf(Long.MIN_VALUE)).min(BigDecimal.valueOf(Long.MAX_VALUE))
+                    .longValue();
+            nanos = fraction.subtract(wholeSeconds).movePointRight(9).longValue();
+        }
+        Instant now = Instant.now();
+        if (seconds > now.getEpochSecond() + MAX_DELAY_SECONDS) {
+            return DeadlineExternUtils.MAX_TIMEOUT_NANOS;
+        }
+        if (seconds < now.getEpochSecond() - MAX_DELAY_SECONDS) {
+            return -DeadlineExternUtils.MAX_TIMEOUT_NANOS;
+        }
+        return (seconds - now.getEpochSecond()) * 1_000_000_000L + nanos - now.getNano();
+    }
+
+    private static TimerWheel getWheel(BObject wheelObj) {
+
+        return (TimerWheel) wheelObj.getNativeData(TIMER_WHEEL_ENTRY);
+    }
+
+}
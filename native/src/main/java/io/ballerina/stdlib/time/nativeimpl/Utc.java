@@ -22,20 +22,21 @@ import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.stdlib.time.util.Constants;
+import io.ballerina.stdlib.time.util.Utils;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.time.Instant;
-import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Date;
 
-import static io.ballerina.stdlib.time.util.Constants.ANALOG_GIGA;
-
 /**
  * Contains the APIs related to Ballerina Utc type generation.
  *
@@ -43,26 +44,31 @@ import static io.ballerina.stdlib.time.util.Constants.ANALOG_GIGA;
  */
 public class Utc {
 
+    public static final TupleType UTC_TUPLE_TYPE = TypeCreator.createTupleType(
+            Arrays.asList(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_DECIMAL));
+    // The `readonly & [int, decimal]` type of the `time:Utc` values, which a tuple takes when it is frozen.
+    public static final Type UTC_TYPE = new Utc(0L).build().getType();
+
     private long secondsFromEpoc = 0;
     private BigDecimal lastSecondFraction = new BigDecimal(0);
 
     public Utc(Instant instant) {
 
         secondsFromEpoc = instant.getEpochSecond();
-        lastSecondFraction = new BigDecimal(instant.getNano()).divide(ANALOG_GIGA, MathContext.DECIMAL128);
+        lastSecondFraction = Utils.secondsFromNanos(instant.getNano());
     }
 
     public Utc(Instant instant, int precision) {
 
         secondsFromEpoc = instant.getEpochSecond();
-        lastSecondFraction = new BigDecimal(instant.getNano()).divide(ANALOG_GIGA, MathContext.DECIMAL128)
+        lastSecondFraction = BigDecimal.valueOf(instant.getNano(), Constants.UTC_MAX_PRECISION)
                 .setScale(precision, RoundingMode.HALF_UP);
     }
 
     public Utc (BArray utc) {
         if (utc.getLength() == 2) {
             secondsFromEpoc = utc.getInt(0);
-            lastSecondFraction = new BigDecimal(utc.getValues()[1].toString()).multiply(Constants.ANALOG_GIGA);
+            lastSecondFraction = ((BDecimal) utc.get(1)).decimalValue().multiply(Constants.ANALOG_GIGA);
         } else if (utc.getLength() == 1) {
             secondsFromEpoc = utc.getInt(0);
         }
@@ -88,9 +94,7 @@ public class Utc {
 
     public BArray build() {
 
-        TupleType utcTupleType = TypeCreator.createTupleType(
-                Arrays.asList(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_DECIMAL));
-        BArray utcTuple = ValueCreator.createTupleValue(utcTupleType);
+        BArray utcTuple = ValueCreator.createTupleValue(UTC_TUPLE_TYPE);
         utcTuple.add(0, secondsFromEpoc);
         utcTuple.add(1, ValueCreator.createDecimalValue(lastSecondFraction));
         utcTuple.freezeDirect();
@@ -102,7 +106,7 @@ public class Utc {
     }
 
     public ZonedDateTime generateZonedDateAtZ() {
-        return Instant.ofEpochSecond(secondsFromEpoc, lastSecondFraction.intValue()).atZone(ZoneId.of("Z"));
+        return Instant.ofEpochSecond(secondsFromEpoc, lastSecondFraction.intValue()).atZone(ZoneOffset.UTC);
     }
 
 }
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Compares, sorts and merges Ballerina Utc tuples using primitive keys.
+ * A tuple is decoded into its seconds and the nanoseconds of its fraction. Tuples whose fraction is not a
+ * nanosecond value in the range [0, 1) are compared by their exact decimal value instead.
+ *
+ * @since 2.8.1
+ */
+public class UtcOrdering {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int RADIX_BITS = 11;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private UtcOrdering() {
+
+    }
+
+    public static int compare(BArray utc1, BArray utc2) {
+
+        return compare(utc1, utc1.getInt(0), getNanos(utc1), utc2, utc2.getInt(0), getNanos(utc2));
+    }
+
+    /**
+     * Sorts the given tuples in ascending order. The sort is stable.
+     *
+     * @param utcs the tuples to be sorted
+     * @return the given tuple instances in ascending order
+     */
+    public static Object[] sort(BArray utcs) {
+
+        int size = utcs.size();
+        Object[] values = new Object[size];
+        long[] seconds = new long[size];
+        long[] nanos = new long[size];
+        boolean exact = true;
+        long minSeconds = Long.MAX_VALUE;
+        long maxSeconds = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            BArray utc = (BArray) utcs.get(i);
+            values[i] = utc;
+            seconds[i] = utc.getInt(0);
+            nanos[i] = getNanos(utc);
+            exact &= nanos[i] >= 0;
+            minSeconds = Math.min(minSeconds, seconds[i]);
+            maxSeconds = Math.max(maxSeconds, seconds[i]);
+        }
+        if (size < 2) {
+            return values;
+        }
+        if (!exact) {
+            Arrays.sort(values, Comparator.comparing(utc -> getExactValue((BArray) utc)));
+            return values;
+        }
+
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        long range = maxSeconds - minSeconds;
+        if (range >= 0 && range < Long.MAX_VALUE / NANOS_PER_SECOND) {
+            // The seconds and the nanoseconds fit into a single unsigned key.
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = (seconds[i] - minSeconds) * NANOS_PER_SECOND + nanos[i];
+            }
+            sortByKey(keys, order, range * NANOS_PER_SECOND + NANOS_PER_SECOND - 1);
+        } else {
+            // Sorts by the nanoseconds and then, stably, by the seconds relative to the minimum as unsigned values.
+            sortByKey(nanos, order, NANOS_PER_SECOND - 1);
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = seconds[order[i]] - minSeconds;
+            }
+            sortByKey(keys, order, range);
+        }
+        Object[] sorted = new Object[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = values[order[i]];
+        }
+        return sorted;
+    }
+
+    /**
+     * Merges lists of tuples that are each sorted in ascending order. Equal tuples keep the order of their lists.
+     *
+     * @param utcLists the sorted lists of tuples
+     * @return the given tuple instances in ascending order
+     * @throws IllegalArgumentException if a list is not sorted
+     */
+    public static Object[] mergeSorted(BArray utcLists) {
+
+        int listCount = utcLists.size();
+        Heads heads = new Heads(listCount);
+        int total = 0;
+        for (int i = 0; i < listCount; i++) {
+            heads.lists[i] = (BArray) utcLists.get(i);
+            total += heads.lists[i].size();
+        }
+        // A binary min-heap of the lists that have remaining tuples, ordered by their current heads.
+        int[] heap = new int[listCount];
+        int heapSize = 0;
+        for (int i = 0; i < listCount; i++) {
+            if (heads.lists[i].size() > 0) {
+                heads.load(i);
+                heap[heapSize] = i;
+                siftUp(heap, heapSize++, heads);
+            }
+        }
+        Object[] merged = new Object[total];
+        int index = 0;
+        while (heapSize > 0) {
+            int list = heap[0];
+            merged[index++] = heads.utcs[list];
+            if (heads.positions[list] + 1 < heads.lists[list].size()) {
+                BArray previous = heads.utcs[list];
+                long previousSeconds = heads.seconds[list];
+                long previousNanos = heads.nanos[list];
+                heads.positions[list]++;
+                heads.load(list);
+                if (compare(previous, previousSeconds, previousNanos, heads.utcs[list], heads.seconds[list],
+                        heads.nanos[list]) > 0) {
+                    throw new IllegalArgumentException("The UTC list at index " + list + " is not sorted");
+                }
+            } else {
+                heap[0] = heap[--heapSize];
+            }
+            siftDown(heap, heapSize, heads);
+        }
+        return merged;
+    }
+
+    private static void siftUp(int[] heap, int position, Heads heads) {
+
+        int list = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!heads.isBefore(list, heap[parent])) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = list;
+    }
+
+    private static void siftDown(int[] heap, int heapSize, Heads heads) {
+
+        if (heapSize == 0) {
+            return;
+        }
+        int list = heap[0];
+        int position = 0;
+        int child;
+        while ((child = 2 * position + 1) < heapSize) {
+            if (child + 1 < heapSize && heads.isBefore(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!heads.isBefore(heap[child], list)) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = list;
+    }
+
+    private static int compare(BArray utc1, long seconds1, long nanos1, BArray utc2, long seconds2, long nanos2) {
+
+        if (nanos1 < 0 || nanos2 < 0) {
+            return Integer.signum(getExactValue(utc1).compareTo(getExactValue(utc2)));
+        }
+        int result = Long.compare(seconds1, seconds2);
+        return result != 0 ? result : Long.compare(nanos1, nanos2);
+    }
+
+    /**
+     * Stably reorders the given indices by their unsigned keys using an LSD radix sort. The keys are reordered
+     * along with the indices.
+     */
+    private static void sortByKey(long[] keys, int[] order, long maxKey) {
+
+        int size = keys.length;
+        if (size <= INSERTION_SORT_THRESHOLD) {
+            for (int i = 1; i < size; i++) {
+                long key = keys[i];
+                int index = order[i];
+                int j = i - 1;
+                while (j >= 0 && Long.compareUnsigned(keys[j], key) > 0) {
+                    keys[j + 1] = keys[j];
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                keys[j + 1] = key;
+                order[j + 1] = index;
+            }
+            return;
+        }
+        int bits = Long.SIZE - Long.numberOfLeadingZeros(maxKey);
+        long[] keyBuffer = new long[size];
+        int[] orderBuffer = new int[size];
+        int[] counts = new int[RADIX];
+        long[] sourceKeys = keys;
+        int[] sourceOrder = order;
+        for (int shift = 0; shift < bits; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++) {
+                counts[(int) (sourceKeys[i] >>> shift) & (RADIX - 1)]++;
+            }
+            if (counts[(int) (sourceKeys[0] >>> shift) & (RADIX - 1)] == size) {
+                // All the keys have the same digit, so this pass would not change the order.
+                continue;
+            }
+            int offset = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int count = counts[digit];
+                counts[digit] = offset;
+                offset += count;
+            }
+            for (int i = 0; i < size; i++) {
+                int position = counts[(int) (sourceKeys[i] >>> shift) & (RADIX - 1)]++;
+                keyBuffer[position] = sourceKeys[i];
+                orderBuffer[position] = sourceOrder[i];
+            }
+            long[] keySwap = sourceKeys;
+            sourceKeys = keyBuffer;
+            keyBuffer = keySwap;
+            int[] orderSwap = sourceOrder;
+            sourceOrder = orderBuffer;
+            orderBuffer = orderSwap;
+        }
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, 0, size);
+            System.arraycopy(sourceOrder, 0, order, 0, size);
+        }
+    }
+
+    /**
+     * Returns the nanoseconds of the fraction of the given tuple or -1 if the fraction is not a nanosecond value
+     * in the range [0, 1).
+     */
+    private static long getNanos(BArray utc) {
+
+        BigDecimal fraction = ((BDecimal) utc.get(1)).decimalValue();
+        int signum = fraction.signum();
+        if (signum == 0) {
+            return 0;
+        }
+        int scale = fraction.scale();
+        if (signum < 0 || scale > 9 || fraction.precision() > scale) {
+            return -1;
+        }
+        return fraction.movePointRight(9).longValue();
+    }
+
+    private static BigDecimal getExactValue(BArray utc) {
+
+        return ((BDecimal) utc.get(1)).decimalValue().add(BigDecimal.valueOf(utc.getInt(0)));
+    }
+
+    /**
+     * The decoded head tuples of the lists being merged.
+     */
+    private static class Heads {
+
+        private final BArray[] lists;
+        private final int[] positions;
+        private final BArray[] utcs;
+        private final long[] seconds;
+        private final long[] nanos;
+
+        private Heads(int listCount) {
+
+            lists = new BArray[listCount];
+            positions = new int[listCount];
+            utcs = new BArray[listCount];
+            seconds = new long[listCount];
+            nanos = new long[listCount];
+        }
+
+        private void load(int list) {
+
+            BArray utc = (BArray) lists[list].get(positions[list]);
+            utcs[list] = utc;
+            seconds[list] = utc.getInt(0);
+            nanos[list] = getNanos(utc);
+        }
+
+        private boolean isBefore(int list1, int list2) {
+
+            int result = compare(utcs[list1], seconds[list1], nanos[list1], utcs[list2], seconds[list2], nanos[list2]);
+            return result < 0 || (result == 0 && list1 < list2);
+        }
+    }
+
+}
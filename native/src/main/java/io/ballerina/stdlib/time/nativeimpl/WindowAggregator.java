@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aggregates the values of events over sliding or tumbling time windows for each of several keys. The event times
+ * are given as nanoseconds from the epoch.
+ * The time is divided into buckets whose width is the slide of the windows, and a window is made of consecutive
+ * buckets. Each key keeps a ring of primitive bucket counters indexed by the bucket number modulo the size of the
+ * ring, so adding an event takes constant time and a query takes time proportional to the number of buckets of a
+ * window. The latest event time of a key is its watermark. The ring keeps the buckets of the windows that end at most
+ * the allowed lateness before the watermark, and a bucket that falls out of the ring is reset when its slot is
+ * reused. Since each key has its own watermark, an event with a far-future time only evicts the windows of its own
+ * key. Each key has its own lock, so the events of different keys do not contend.
+ * The keys are removed from time to time to keep the memory bounded. A key is removed when it has received no events
+ * since the previous sweep and its latest bucket has fallen out of the ring with respect to the latest event time of
+ * all the keys. A key that keeps receiving events is never removed, so a far-future event of another key does not
+ * reset its windows.
+ *
+ * @since 2.8.1
+ */
+public class WindowAggregator {
+
+    // Limits the memory of a key, which is 40 bytes for each bucket, i.e. at most 160 KB.
+    public static final int MAX_BUCKETS = 1 << 12;
+    private static final int MIN_ADDS_PER_SWEEP = 1024;
+
+    private final long slideNanos;
+    private final int windowBuckets;
+    private final int latenessBuckets;
+    private final int ringSize;
+    private final Map<String, KeyWindow> windows = new ConcurrentHashMap<>();
+    // The latest bucket of all the keys, which only decides which idle keys are removed.
+    private final AtomicLong latestBucket = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong addsSinceSweep = new AtomicLong();
+
+    /**
+     * Creates a window aggregator.
+     *
+     * @param windowNanos   the length of a window, which is a multiple of the slide
+     * @param slideNanos    the distance between the starts of consecutive windows
+     * @param latenessNanos the time after the end of a window during which it accepts late events
+     * @throws IllegalArgumentException if the lengths are invalid or a window needs too many buckets
+     */
+    public WindowAggregator(long windowNanos, long slideNanos, long latenessNanos) {
+
+        if (windowNanos <= 0 || slideNanos <= 0) {
+            throw new IllegalArgumentException("The window and the slide should be positive");
+        }
+        if (windowNanos % slideNanos != 0) {
+            throw new IllegalArgumentException("The window should be a multiple of the slide");
+        }
+        if (latenessNanos < 0) {
+            throw new IllegalArgumentException("The allowed lateness should not be negative");
+        }
+        long buckets = windowNanos / slideNanos + (latenessNanos / slideNanos + (latenessNanos % slideNanos == 0 ?
+                0 : 1));
+        if (buckets > MAX_BUCKETS) {
+            throw new IllegalArgumentException("The window and the allowed lateness should be at most " + MAX_BUCKETS
+                    + " times the slide");
+        }
+        this.slideNanos = slideNanos;
+        windowBuckets = (int) (windowNanos / slideNanos);
+        latenessBuckets = (int) buckets - windowBuckets;
+        ringSize = (int) buckets;
+    }
+
+    /**
+     * Adds an event to the windows of the given key.
+     *
+     * @param key        the key of the event
+     * @param eventNanos the time of the event
+     * @param value      the value of the event
+     * @return false if the event was dropped, because all its windows ended more than the allowed lateness before
+     * the watermark of the key
+     */
+    public boolean add(String key, long eventNanos, double value) {
+
+        long bucket = Math.floorDiv(eventNanos, slideNanos);
+        long latest = latestBucket.accumulateAndGet(bucket, Math::max);
+        if (addsSinceSweep.incrementAndGet() > Math.max(windows.size(), MIN_ADDS_PER_SWEEP)) {
+            addsSinceSweep.set(0);
+            sweep(latest);
+        }
+        while (true) {
+            KeyWindow window = windows.computeIfAbsent(key, k -> new KeyWindow(ringSize));
+            synchronized (window) {
+                if (window.removed) {
+                    // A sweep removed the window after it was looked up.
+                    continue;
+                }
+                return window.add(bucket, value, ringSize);
+            }
+        }
+    }
+
+    /**
+     * Returns the aggregate of the window of the given key that ends with the bucket of the given time.
+     *
+     * @param key       the key
+     * @param endNanos  a time within the last bucket of the window
+     * @param aggregate an array that receives the count, the sum, the minimum and the maximum of the values
+     * @throws IllegalArgumentException if the window ended more than the allowed lateness before the watermark of
+     *                                  the key
+     */
+    public void query(String key, long endNanos, double[] aggregate) {
+
+        long endBucket = Math.floorDiv(endNanos, slideNanos);
+        KeyWindow window = windows.get(key);
+        if (window == null) {
+            clear(aggregate);
+            return;
+        }
+        synchronized (window) {
+            long watermark = window.lastBucket;
+            // A negative lag of a window that ends before the watermark means that the difference overflowed.
+            long lag = watermark - endBucket;
+            if (endBucket < watermark && (lag < 0 || lag > latenessBuckets)) {
+                throw new IllegalArgumentException("The window has been evicted, since it ended more than the "
+                        + "allowed lateness before the latest event time");
+            }
+            aggregate(window, endBucket, aggregate);
+        }
+    }
+
+    /**
+     * Returns the aggregate of the window of the given key that ends with the bucket of the watermark of the key,
+     * which is the latest window of the key.
+     *
+     * @param key       the key
+     * @param aggregate an array that receives the count, the sum, the minimum and the maximum of the values
+     */
+    public void queryLatest(String key, double[] aggregate) {
+
+        KeyWindow window = windows.get(key);
+        if (window == null) {
+            clear(aggregate);
+            return;
+        }
+        synchronized (window) {
+            aggregate(window, window.lastBucket, aggregate);
+        }
+    }
+
+    private void aggregate(KeyWindow window, long endBucket, double[] aggregate) {
+
+        clear(aggregate);
+        for (int i = 0; i < windowBuckets; i++) {
+            long bucket = endBucket - i;
+            int slot = (int) Math.floorMod(bucket, ringSize);
+            if (window.buckets[slot] == bucket) {
+                aggregate[0] += window.counts[slot];
+                aggregate[1] += window.sums[slot];
+                aggregate[2] = Math.min(aggregate[2], window.mins[slot]);
+                aggregate[3] = Math.max(aggregate[3], window.maxs[slot]);
+            }
+        }
+    }
+
+    private static void clear(double[] aggregate) {
+
+        aggregate[0] = 0;
+        aggregate[1] = 0;
+        aggregate[2] = Double.POSITIVE_INFINITY;
+        aggregate[3] = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Checks whether the given bucket has fallen out of a ring whose latest bucket is the given watermark. A bucket
+     * after the watermark has not fallen out, and a negative difference of a bucket before it means that the
+     * difference overflowed.
+     */
+    private static boolean isEvicted(long bucket, long watermark, int ringSize) {
+
+        if (bucket >= watermark) {
+            return false;
+        }
+        long lag = watermark - bucket;
+        return lag < 0 || lag >= ringSize;
+    }
+
+    /**
+     * Removes the windows of the keys that have received no events since the previous sweep and whose buckets have
+     * all fallen out of the ring with respect to the latest bucket of all the keys.
+     */
+    private void sweep(long latest) {
+
+        for (Map.Entry<String, KeyWindow> entry : windows.entrySet()) {
+            KeyWindow window = entry.getValue();
+            synchronized (window) {
+                if (!window.active && isEvicted(window.lastBucket, latest, ringSize)) {
+                    window.removed = true;
+                    windows.remove(entry.getKey(), window);
+                }
+                window.active = false;
+            }
+        }
+    }
+
+    /**
+     * The ring of bucket counters of a key.
+     */
+    private static final class KeyWindow {
+
+        // The bucket number of each slot, which identifies the buckets that have fallen out of the ring.
+        private final long[] buckets;
+        private final long[] counts;
+        private final double[] sums;
+        private final double[] mins;
+        private final double[] maxs;
+        // The latest bucket of the key, which is its watermark.
+        private long lastBucket = Long.MIN_VALUE;
+        // Whether the key has received an event since the previous sweep.
+        private boolean active = true;
+        private boolean removed;
+
+        private KeyWindow(int ringSize) {
+
+            buckets = new long[ringSize];
+            Arrays.fill(buckets, Long.MIN_VALUE);
+            counts = new long[ringSize];
+            sums = new double[ringSize];
+            mins = new double[ringSize];
+            maxs = new double[ringSize];
+        }
+
+        /**
+         * Adds a value to a bucket, which resets the bucket that the slot held before.
+         *
+         * @return false if the bucket has fallen out of the ring
+         */
+        private boolean add(long bucket, double value, int ringSize) {
+
+            active = true;
+            if (isEvicted(bucket, lastBucket, ringSize)) {
+                return false;
+            }
+            int slot = (int) Math.floorMod(bucket, ringSize);
+            if (buckets[slot] != bucket) {
+                buckets[slot] = bucket;
+                counts[slot] = 0;
+                sums[slot] = 0;
+                mins[slot] = Double.POSITIVE_INFINITY;
+                maxs[slot] = Double.NEGATIVE_INFINITY;
+            }
+            counts[slot]++;
+            sums[slot] += value;
+            mins[slot] = Math.min(mins[slot], value);
+            maxs[slot] = Math.max(maxs[slot], value);
+            lastBucket = Math.max(lastBucket, bucket);
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.time.util.Constants;
+import io.ballerina.stdlib.time.util.Errors;
+import io.ballerina.stdlib.time.util.ModuleUtils;
+import io.ballerina.stdlib.time.util.Utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Contains the extern APIs related to the Ballerina WindowAggregator type.
+ *
+ * @since 2.8.1
+ */
+public class WindowAggregatorExternUtils {
+
+    private static final String WINDOW_AGGREGATOR_ENTRY = "windowAggregator";
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private WindowAggregatorExternUtils() {
+
+    }
+
+    public static Object externWindowAggregatorInit(BObject aggregatorObj, BDecimal window, BDecimal slide,
+                                                    BDecimal allowedLateness) {
+
+        try {
+            aggregatorObj.addNativeData(WINDOW_AGGREGATOR_ENTRY, new WindowAggregator(toNanos(window),
+                    toNanos(slide), toNanos(allowedLateness)));
+            return null;
+        } catch (IllegalArgumentException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        } catch (ArithmeticException e) {
+            return Utils.createError(Errors.FormatError, "The window, the slide and the allowed lateness should be "
+                    + "at most " + Long.MAX_VALUE / NANOS_PER_SECOND + " seconds");
+        }
+    }
+
+    public static Object externWindowAggregatorAdd(BObject aggregatorObj, BString key, BArray eventTime,
+                                                   double value) {
+
+        try {
+            return getAggregator(aggregatorObj).add(key.getValue(), toEpochNanos(eventTime), value);
+        } catch (ArithmeticException e) {
+            return Utils.createError(Errors.FormatError, "The event time is out of the supported range");
+        }
+    }
+
+    public static Object externWindowAggregatorQuery(BObject aggregatorObj, BString key, Object windowEnd) {
+
+        double[] aggregate = new double[4];
+        try {
+            if (windowEnd == null) {
+                getAggregator(aggregatorObj).queryLatest(key.getValue(), aggregate);
+            } else {
+                getAggregator(aggregatorObj).query(key.getValue(), toEpochNanos((BArray) windowEnd), aggregate);
+            }
+        } catch (IllegalArgumentException e) {
+            return Utils.createError(Errors.FormatError, e.getMessage());
+        } catch (ArithmeticException e) {
+            return Utils.createError(Errors.FormatError, "The end of the window is out of the supported range");
+        }
+        BMap<BString, Object> aggregateMap = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                Constants.WINDOW_AGGREGATE_RECORD);
+        long count = (long) aggregate[0];
+        aggregateMap.put(Constants.WINDOW_AGGREGATE_RECORD_COUNT_BSTRING, count);
+        aggregateMap.put(Constants.WINDOW_AGGREGATE_RECORD_SUM_BSTRING, aggregate[1]);
+        aggregateMap.put(Constants.WINDOW_AGGREGATE_RECORD_MIN_BSTRING, count == 0 ? null : aggregate[2]);
+        aggregateMap.put(Constants.WINDOW_AGGREGATE_RECORD_MAX_BSTRING, count == 0 ? null : aggregate[3]);
+        return aggregateMap;
+    }
+
+    /**
+     * Converts the given seconds to nanoseconds. The digits after the nanoseconds are dropped.
+     *
+     * @throws ArithmeticException if the nanoseconds do not fit into a long
+     */
+    private static long toNanos(BDecimal seconds) {
+
+        return seconds.decimalValue().movePointRight(9).setScale(0, RoundingMode.DOWN).longValueExact();
+    }
+
+    /**
+     * Returns the nanoseconds from the epoch of the given tuple, which covers about 292 years on either side of the
+     * epoch. The digits after the nanoseconds are dropped.
+     *
+     * @throws ArithmeticException if the nanoseconds do not fit into a long
+     */
+    private static long toEpochNanos(BArray utc) {
+
+        long seconds = utc.getInt(0);
+        BigDecimal fraction = ((BDecimal) utc.get(1)).decimalValue();
+        if (fraction.signum() >= 0 && fraction.compareTo(BigDecimal.ONE) < 0) {
+            return Math.addExact(Math.multiplyExact(seconds, NANOS_PER_SECOND),
+                    fraction.movePointRight(9).longValue());
+        }
+        return fraction.add(BigDecimal.valueOf(seconds)).movePointRight(9).setScale(0, RoundingMode.FLOOR)
+                .longValueExact();
+    }
+
+    private static WindowAggregator getAggregator(BObject aggregatorObj) {
+
+        return (WindowAggregator) aggregatorObj.getNativeData(WINDOW_AGGREGATOR_ENTRY);
+    }
+
+}
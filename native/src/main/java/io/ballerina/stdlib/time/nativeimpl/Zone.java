@@ -17,14 +17,30 @@
  */
 package io.ballerina.stdlib.time.nativeimpl;
 
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.time.util.CalendarUtils;
+import io.ballerina.stdlib.time.util.Constants;
+import io.ballerina.stdlib.time.util.DateTimeFormatters;
+import io.ballerina.stdlib.time.util.ModuleUtils;
 import io.ballerina.stdlib.time.util.Utils;
 
+import java.math.BigDecimal;
 import java.time.DateTimeException;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.Period;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Contains the APIs related to Ballerina TimeZone type generations and operations.
@@ -33,16 +49,72 @@ import java.util.Map;
  */
 public class Zone {
 
+    // Bounds the memory of a single series.
+    public static final int MAX_SERIES_LENGTH = 10_000;
+    // Bounds the memory of a single call to `transitions`.
+    public static final int MAX_TRANSITIONS = 10_000;
+    // Keyed by the parsed zone ID, so only the region zones of the time zone database, which is a bounded set, are
+    // cached. The fixed-offset zones have no rules to be loaded and are created on each call.
+    private static final Map<ZoneId, Zone> ZONES = new ConcurrentHashMap<>();
+
     private ZoneId zoneId;
+    private final BString timeAbbrev;
+    // The local day of the last `toCivilRecord` call. Consecutive UTC values usually fall into the same local day.
+    private volatile LocalDayWindow lastWindow;
 
     public Zone() throws DateTimeException {
 
         zoneId = ZoneId.systemDefault();
+        timeAbbrev = StringUtils.fromString(zoneId.toString());
     }
 
     public Zone(String zoneId) {
 
-        this.zoneId = ZoneId.of(zoneId);
+        this(ZoneId.of(zoneId));
+    }
+
+    private Zone(ZoneId zoneId) {
+
+        this.zoneId = zoneId;
+        timeAbbrev = StringUtils.fromString(zoneId.toString());
+    }
+
+    /**
+     * Returns the zone of the given zone ID. The region zones are cached, so the rules of a zone are loaded only once.
+     *
+     * @param zoneId The zone ID
+     * @return The zone
+     * @throws DateTimeException If the zone ID is invalid
+     */
+    public static Zone of(String zoneId) {
+
+        ZoneId id = ZoneId.of(zoneId);
+        if (id.normalized() instanceof ZoneOffset) {
+            return new Zone(id);
+        }
+        return ZONES.computeIfAbsent(id, Zone::new);
+    }
+
+    /**
+     * Loads the zone of the given zone ID and runs the parsing, formatting and conversion paths once with it, so
+     * that the lazily initialized `java.time` internals are ready before the first request uses the zone.
+     *
+     * @param zoneId The zone ID
+     * @throws DateTimeException If the zone ID is invalid
+     */
+    public static void warmUp(String zoneId) {
+
+        Zone zone = Zone.of(zoneId);
+        ZoneRules rules = zone.zoneId.getRules();
+        Instant now = Instant.now();
+        rules.getOffset(now);
+        rules.nextTransition(now);
+        ZonedDateTime zonedDateTime = now.atZone(zone.zoneId);
+        ZonedDateTime.parse(zonedDateTime.toString());
+        ZonedDateTime.parse(zonedDateTime.format(DateTimeFormatters.EMAIL_DATE_TIME_FORMATTER_WITHOUT_COMMENT),
+                DateTimeFormatters.EMAIL_DATE_TIME_FORMATTER);
+        zone.toCivilRecord(now);
+        new Utc(zonedDateTime.toInstant()).build();
     }
 
     public Object isFixedOffset() {
@@ -65,7 +137,209 @@ public class Zone {
         return new Civil(utc.generateInstant().atZone(zoneId));
     }
 
+    /**
+     * Converts the given instant to a Ballerina `time:Civil` record in this zone. The local day and the offset of the
+     * last converted instant are memoized, so an instant that falls into the same local day and offset period only
+     * needs its time of day to be derived.
+     *
+     * @param instant The instant to be converted
+     * @return The Ballerina civil record
+     */
+    public BMap<BString, Object> toCivilRecord(Instant instant) {
+
+        return toCivilRecord(instant.getEpochSecond(), Utils.secondsFromNanos(instant.getNano()));
+    }
+
+    /**
+     * Converts the given instant to a Ballerina `time:Civil` record in this zone, like `toCivilRecord(Instant)`.
+     * This allows the fraction of an instant that is converted to several zones to be computed once.
+     *
+     * @param epochSecond The seconds of the instant from the epoch
+     * @param fraction    The fraction of the second of the instant, which is in the range [0, 1)
+     * @return The Ballerina civil record
+     */
+    public BMap<BString, Object> toCivilRecord(long epochSecond, BigDecimal fraction) {
+
+        return toCivilRecord(epochSecond, fraction, ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                Constants.CIVIL_RECORD));
+    }
+
+    /**
+     * Fills the given map with the fields of the civil record of the given instant, like
+     * `toCivilRecord(long, BigDecimal)`. The native tests, which have no initialized Ballerina module, pass a plain
+     * map.
+     */
+    BMap<BString, Object> toCivilRecord(long epochSecond, BigDecimal fraction, BMap<BString, Object> civilMap) {
+
+        LocalDayWindow window = lastWindow;
+        if (window == null || !window.contains(epochSecond)) {
+            window = createWindow(epochSecond);
+            lastWindow = window;
+        }
+        long secondOfDay = epochSecond - window.midnight;
+        long secondOfMinute = secondOfDay % Constants.SECONDS_PER_MINUTE;
+        BigDecimal second = BigDecimal.valueOf(secondOfMinute).add(fraction);
+        return Civil.fillRecord(civilMap, window.year, window.month, window.day,
+                secondOfDay / Constants.SECONDS_PER_HOUR,
+                secondOfDay % Constants.SECONDS_PER_HOUR / Constants.SECONDS_PER_MINUTE, second, timeAbbrev,
+                window.dayOfWeek);
+    }
+
+    /**
+     * Returns the local day that contains the given epoch second, clipped to the offset period of the epoch second.
+     */
+    private LocalDayWindow createWindow(long epochSecond) {
+
+        ZoneRules rules = zoneId.getRules();
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        int offset = rules.getOffset(instant).getTotalSeconds();
+        long epochDay = Math.floorDiv(epochSecond + offset, Constants.SECONDS_PER_DAY);
+        long midnight = epochDay * Constants.SECONDS_PER_DAY - offset;
+        long start = midnight;
+        long end = midnight + Constants.SECONDS_PER_DAY;
+        if (!rules.isFixedOffset()) {
+            ZoneOffsetTransition next = rules.nextTransition(Instant.ofEpochSecond(midnight - 1));
+            if (next != null && next.toEpochSecond() <= epochSecond) {
+                // The offset changed earlier on the same local day.
+                start = rules.previousTransition(Instant.ofEpochSecond(epochSecond + 1)).toEpochSecond();
+                next = rules.nextTransition(instant);
+            }
+            if (next != null) {
+                end = Math.min(end, next.toEpochSecond());
+            }
+        }
+        return new LocalDayWindow(start, end, midnight, offset, CalendarUtils.toPackedDate(epochDay),
+                CalendarUtils.getDayOfWeek(epochDay));
+    }
+
     public BMap<BString, Object> civilAddDuration(Civil civil, CustomDuration customDuration) {
         return civil.addDuration(this.zoneId, customDuration).build();
     }
+
+    /**
+     * Returns the offset transitions of the zone in the range [from, to).
+     *
+     * @param from the start of the range (inclusive)
+     * @param to   the end of the range (exclusive)
+     * @return the transitions in ascending order
+     * @throws DateTimeException if the range has more than {@link #MAX_TRANSITIONS} transitions
+     */
+    public List<ZoneOffsetTransition> transitions(Instant from, Instant to) {
+
+        ZoneRules rules = zoneId.getRules();
+        List<ZoneOffsetTransition> transitions = new ArrayList<>();
+        ZoneOffsetTransition transition = rules.nextTransition(from.minusNanos(1));
+        while (transition != null && transition.getInstant().isBefore(to)) {
+            if (transitions.size() == MAX_TRANSITIONS) {
+                throw new DateTimeException("The range should have at most " + MAX_TRANSITIONS + " transitions");
+            }
+            transitions.add(transition);
+            transition = rules.nextTransition(transition.getInstant());
+        }
+        return transitions;
+    }
+
+    public int getOffsetSeconds(long epochSecond) {
+
+        LocalDayWindow window = lastWindow;
+        if (window != null && window.contains(epochSecond)) {
+            return window.offset;
+        }
+        return zoneId.getRules().getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+    }
+
+    public ZoneOffsetTransition nextTransition(Instant instant) {
+
+        return zoneId.getRules().nextTransition(instant);
+    }
+
+    public ZoneId getZoneId() {
+
+        return zoneId;
+    }
+
+    /**
+     * Generates the series of date-times `start + step * i` in this time zone. Every member is derived from `start`
+     * instead of from the previous member, so a day clamped to the end of a shorter month (e.g. the 31st becoming
+     * the 28th of February) does not drift into the later members. Local date-times falling into a DST gap are
+     * shifted forward by the length of the gap and the ones falling into a DST overlap take the earlier offset.
+     *
+     * @param start The first member of the series
+     * @param step  The duration between two consecutive members
+     * @param count The number of members to be generated, which is at most {@link #MAX_SERIES_LENGTH}, or -1 if the
+     *              series is bounded by `until`
+     * @param until The last instant (inclusive) of the series or null if the series is bounded by `count`
+     * @return The members of the series
+     * @throws DateTimeException If the step does not move the time forward or the series has more than
+     *                           {@link #MAX_SERIES_LENGTH} members
+     */
+    public List<ZonedDateTime> series(Civil start, CustomDuration step, long count, Instant until) {
+
+        if (count > MAX_SERIES_LENGTH) {
+            throw new DateTimeException("The series count should be at most " + MAX_SERIES_LENGTH + ": " + count);
+        }
+        ZonedDateTime base = start.getZonedDateTime().withZoneSameInstant(zoneId);
+        Duration timeStep = Utils.createTimeDuration(step.hours(), step.minutes(), step.seconds(),
+                step.nanoSeconds());
+        if (!seriesMember(base, step, timeStep, 1).isAfter(base)) {
+            throw new DateTimeException("The series step should move the time forward");
+        }
+        List<ZonedDateTime> members = new ArrayList<>(count < 0 ? 16 : (int) count);
+        for (long i = 0; count < 0 || i < count; i++) {
+            ZonedDateTime member = seriesMember(base, step, timeStep, i);
+            if (until != null && member.toInstant().isAfter(until)) {
+                break;
+            }
+            if (i == MAX_SERIES_LENGTH) {
+                throw new DateTimeException("The series should have at most " + MAX_SERIES_LENGTH + " members");
+            }
+            members.add(member);
+        }
+        return members;
+    }
+
+    private static ZonedDateTime seriesMember(ZonedDateTime base, CustomDuration step, Duration timeStep, long i) {
+
+        Period period = Period.of(Math.toIntExact(Math.multiplyExact(step.years(), i)),
+                Math.toIntExact(Math.multiplyExact(step.months(), i)),
+                Math.toIntExact(Math.multiplyExact(step.days(), i)));
+        // `ZonedDateTime.plus(Period)` keeps the current offset in an overlap, so the local date-time is resolved
+        // again to take the earlier offset.
+        ZonedDateTime date = period.isZero() ? base
+                : ZonedDateTime.ofLocal(base.toLocalDateTime().plus(period), base.getZone(), null);
+        return date.plus(timeStep.multipliedBy(i));
+    }
+
+    /**
+     * A range of epoch seconds [start, end) that have the same local date and offset.
+     */
+    private static final class LocalDayWindow {
+
+        private final long start;
+        private final long end;
+        // The epoch second of the local midnight of the date when the offset is applied.
+        private final long midnight;
+        private final int offset;
+        private final long year;
+        private final long month;
+        private final long day;
+        private final long dayOfWeek;
+
+        private LocalDayWindow(long start, long end, long midnight, int offset, long packedDate, long dayOfWeek) {
+
+            this.start = start;
+            this.end = end;
+            this.midnight = midnight;
+            this.offset = offset;
+            this.year = CalendarUtils.getYear(packedDate);
+            this.month = CalendarUtils.getMonth(packedDate);
+            this.day = CalendarUtils.getDay(packedDate);
+            this.dayOfWeek = dayOfWeek;
+        }
+
+        private boolean contains(long epochSecond) {
+
+            return epochSecond >= start && epochSecond < end;
+        }
+    }
 }
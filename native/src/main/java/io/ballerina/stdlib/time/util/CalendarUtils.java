@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.time.util;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Year;
+
+/**
+ * Integer arithmetic on dates of the proleptic Gregorian calendar, which does not create any objects, and the
+ * conversions of dates from and to ISO 8601 strings.
+ * A date is packed into a long as `year << 9 | month << 5 | day`.
+ *
+ * @since 2.8.1
+ */
+public final class CalendarUtils {
+
+    private static final long DAYS_PER_ERA = 146097;
+    // Days from 0000-03-01, the start of the shifted calendar, to 1970-01-01.
+    private static final long DAYS_0000_TO_1970 = 719468;
+    private static final int MAX_YEAR_DIGITS = 9;
+
+    public static final long MIN_EPOCH_DAY = toEpochDay(Year.MIN_VALUE, 1, 1);
+    public static final long MAX_EPOCH_DAY = toEpochDay(Year.MAX_VALUE, 12, 31);
+
+    private CalendarUtils() {}
+
+    /**
+     * Returns the date of the given number of days from 1970-01-01.
+     *
+     * @param epochDay the number of days from 1970-01-01
+     * @return the packed date
+     */
+    public static long toPackedDate(long epochDay) {
+
+        // Years start on March 1 in the shifted calendar, so that the leap day is the last day of a year.
+        long shiftedDay = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(shiftedDay, DAYS_PER_ERA);
+        long dayOfEra = shiftedDay - era * DAYS_PER_ERA;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return pack(year, month, day);
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to the given date. The date is not validated.
+     *
+     * @param year  the year
+     * @param month the month from 1 to 12
+     * @param day   the day of the month
+     * @return the number of days from 1970-01-01
+     */
+    public static long toEpochDay(long year, long month, long day) {
+
+        long shiftedYear = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(shiftedYear, 400);
+        long yearOfEra = shiftedYear - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Validates the given date and returns its number of days from 1970-01-01.
+     *
+     * @throws DateTimeException if the date is invalid, which has the same message as the error of the
+     *                           `dateValidate` API if the fields fit into an int
+     */
+    public static long toValidEpochDay(long year, long month, long day) {
+
+        if (year < Year.MIN_VALUE || year > Year.MAX_VALUE || month < 1 || month > 12 || day < 1
+                || day > lengthOfMonth(year, month)) {
+            if (year == (int) year && month == (int) month && day == (int) day) {
+                LocalDate.of((int) year, (int) month, (int) day);
+            }
+            throw new DateTimeException("Invalid date: " + year + "-" + month + "-" + day);
+        }
+        return toEpochDay(year, month, day);
+    }
+
+    /**
+     * Returns the date of the given number of days from 1970-01-01 after checking that it is in the range of the
+     * supported years.
+     *
+     * @throws ArithmeticException if the date is out of the range
+     */
+    public static long toValidPackedDate(long epochDay) {
+
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+            throw new ArithmeticException("The date is out of the supported range");
+        }
+        return toPackedDate(epochDay);
+    }
+
+    /**
+     * Adds the given number of months to a valid date. The day is reduced to the last day of the resulting month if
+     * the month is shorter.
+     *
+     * @return the packed date
+     * @throws ArithmeticException if the resulting date is out of the range of the supported years
+     */
+    public static long addMonths(long year, long month, long day, long months) {
+
+        long totalMonths = Math.addExact(year * 12 + month - 1, months);
+        long resultYear = Math.floorDiv(totalMonths, 12);
+        long resultMonth = Math.floorMod(totalMonths, 12) + 1;
+        if (resultYear < Year.MIN_VALUE || resultYear > Year.MAX_VALUE) {
+            throw new ArithmeticException("The date is out of the supported range");
+        }
+        return pack(resultYear, resultMonth, Math.min(day, lengthOfMonth(resultYear, resultMonth)));
+    }
+
+    /**
+     * Parses a date in the ISO 8601 form of `yyyy-mm-dd`. A year that does not have four digits is preceded by its
+     * sign, like `+10000-01-01` or `-0044-03-15`. As in the output of `toIsoString`, a year of four digits is not
+     * preceded by a `+` sign.
+     *
+     * @return the packed date
+     * @throws DateTimeException if the string is not a valid date
+     */
+    public static long parseDate(String value) {
+
+        int position = 0;
+        boolean negative = false;
+        boolean positive = false;
+        if (!value.isEmpty() && (value.charAt(0) == '+' || value.charAt(0) == '-')) {
+            negative = value.charAt(0) == '-';
+            positive = !negative;
+            position++;
+        }
+        int yearStart = position;
+        long year = 0;
+        while (position < value.length() && isDigit(value.charAt(position))
+                && position - yearStart < MAX_YEAR_DIGITS) {
+            year = year * 10 + (value.charAt(position++) - '0');
+        }
+        int yearDigits = position - yearStart;
+        // The fields after the year have a fixed length of `-mm-dd`.
+        if (yearDigits < 4 || (yearStart == 0 && yearDigits > 4) || (positive && yearDigits == 4)
+                || value.length() - position != 6
+                || value.charAt(position) != '-' || value.charAt(position + 3) != '-'
+                || !isDigit(value.charAt(position + 1)) || !isDigit(value.charAt(position + 2))
+                || !isDigit(value.charAt(position + 4)) || !isDigit(value.charAt(position + 5))) {
+            throw new DateTimeException("The date '" + value + "' is not in the ISO 8601 form of yyyy-mm-dd");
+        }
+        long month = (value.charAt(position + 1) - '0') * 10 + value.charAt(position + 2) - '0';
+        long day = (value.charAt(position + 4) - '0') * 10 + value.charAt(position + 5) - '0';
+        year = negative ? -year : year;
+        toValidEpochDay(year, month, day);
+        return pack(year, month, day);
+    }
+
+    /**
+     * Returns the ISO 8601 form of a date, which is `yyyy-mm-dd` for the years from 0 to 9999. The other years are
+     * preceded by their sign and have at least four digits.
+     */
+    public static String toIsoString(long year, long month, long day) {
+
+        StringBuilder builder = new StringBuilder(16);
+        long absoluteYear = Math.abs(year);
+        if (year < 0) {
+            builder.append('-');
+        } else if (year > 9999) {
+            builder.append('+');
+        }
+        for (long digits = 1000; digits > 1 && absoluteYear < digits; digits /= 10) {
+            builder.append('0');
+        }
+        builder.append(absoluteYear).append('-');
+        if (month < 10) {
+            builder.append('0');
+        }
+        builder.append(month).append('-');
+        if (day < 10) {
+            builder.append('0');
+        }
+        return builder.append(day).toString();
+    }
+
+    public static long pack(long year, long month, long day) {
+
+        return year << 9 | month << 5 | day;
+    }
+
+    public static long getYear(long packedDate) {
+
+        return packedDate >> 9;
+    }
+
+    public static long getMonth(long packedDate) {
+
+        return packedDate >> 5 & 0xF;
+    }
+
+    public static long getDay(long packedDate) {
+
+        return packedDate & 0x1F;
+    }
+
+    public static boolean isLeapYear(long year) {
+
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    public static int lengthOfMonth(long year, long month) {
+
+        if (month == 2) {
+            return isLeapYear(year) ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    /**
+     * Returns the day of the week of the given number of days from 1970-01-01 (a Thursday).
+     *
+     * @param epochDay the number of days from 1970-01-01
+     * @return the day of the week from 0 (Sunday) to 6 (Saturday)
+     */
+    public static int getDayOfWeek(long epochDay) {
+
+        return (int) Math.floorMod(epochDay + 4, 7);
+    }
+
+    private static boolean isDigit(char c) {
+
+        return c >= '0' && c <= '9';
+    }
+
+}
@@ -71,6 +71,12 @@ public class Constants {
     public static final BString ZONE_OFFSET_RECORD_MINUTE_BSTRING = StringUtils.fromString(ZONE_OFFSET_RECORD_MINUTE);
     public static final BString ZONE_OFFSET_RECORD_SECOND_BSTRING = StringUtils.fromString(ZONE_OFFSET_RECORD_SECOND);
 
+    // For `time:ZoneTransition`
+    public static final String READABLE_ZONE_TRANSITION_RECORD = "ReadWriteZoneTransition";
+    public static final BString ZONE_TRANSITION_RECORD_UTC_BSTRING = StringUtils.fromString("utc");
+    public static final BString ZONE_TRANSITION_RECORD_OFFSET_BEFORE_BSTRING = StringUtils.fromString("offsetBefore");
+    public static final BString ZONE_TRANSITION_RECORD_OFFSET_AFTER_BSTRING = StringUtils.fromString("offsetAfter");
+
     // For `time:Civil`
     public static final String CIVIL_RECORD = "Civil";
     public static final String CIVIL_RECORD_UTC_OFFSET = "utcOffset";
@@ -81,6 +87,18 @@ public class Constants {
     public static final BString CIVIL_RECORD_TIME_ABBREV_BSTRING = StringUtils.fromString(CIVIL_RECORD_TIME_ABBREV);
     public static final BString CIVIL_RECORD_DAY_OF_WEEK_BSTRING = StringUtils.fromString(CIVIL_RECORD_DAY_OF_WEEK);
 
+    // For `time:Interval`
+    public static final BString INTERVAL_RECORD_START_BSTRING = StringUtils.fromString("start");
+    public static final BString INTERVAL_RECORD_END_BSTRING = StringUtils.fromString("end");
+    public static final BString INTERVAL_RECORD_ID_BSTRING = StringUtils.fromString("id");
+
+    // For `time:WindowAggregate`
+    public static final String WINDOW_AGGREGATE_RECORD = "WindowAggregate";
+    public static final BString WINDOW_AGGREGATE_RECORD_COUNT_BSTRING = StringUtils.fromString("count");
+    public static final BString WINDOW_AGGREGATE_RECORD_SUM_BSTRING = StringUtils.fromString("sum");
+    public static final BString WINDOW_AGGREGATE_RECORD_MIN_BSTRING = StringUtils.fromString("min");
+    public static final BString WINDOW_AGGREGATE_RECORD_MAX_BSTRING = StringUtils.fromString("max");
+
     /**
      * Mapping enumeration for Ballerina level HeaderZoneHandling.
      *
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.time.util;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable formatters, patterns and zones shared by the time library. This class refers only to JDK types, so
+ * it is initialized at build time in GraalVM native images (see `META-INF/native-image`).
+ *
+ * @since 2.8.1
+ */
+public final class DateTimeFormatters {
+
+    private DateTimeFormatters() {}
+
+    public static final DateTimeFormatter EMAIL_DATE_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern(Constants.EMAIL_DATE_TIME_FORMAT);
+    public static final DateTimeFormatter EMAIL_DATE_TIME_FORMATTER_WITHOUT_COMMENT =
+            DateTimeFormatter.ofPattern(Constants.EMAIL_DATE_TIME_FORMAT_WITHOUT_COMMENT);
+    public static final ZoneId GMT_ZONE = ZoneId.of(Constants.GMT_STRING_VALUE);
+
+    // Patterns used to find the optional parts of an RFC 3339 timestamp.
+    public static final Pattern UTC_TIMESTAMP_PATTERN =
+            Pattern.compile("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}(:\\d{2}\\.\\d+)?(Z$)");
+    public static final Pattern TIMESTAMP_WITH_SECONDS_PATTERN =
+            Pattern.compile("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}(\\.\\d+)?");
+}
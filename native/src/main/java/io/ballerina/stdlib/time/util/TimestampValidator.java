@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.util;
+
+import java.text.DateFormatSymbols;
+import java.time.DateTimeException;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/**
+ * Validates timestamp strings in a single pass without parsing them into time values, so that neither a valid nor
+ * an invalid string creates any objects.
+ * The accepted strings are a subset of the strings accepted by the parsers of the library, so that a valid string
+ * can always be parsed. The validators return the index of the first invalid character, which is the length of the
+ * string if it ends too early, or -1 if the string is valid.
+ *
+ * @since 2.8.1
+ */
+public final class TimestampValidator {
+
+    // A '0' matches a digit and a 'T' matches 'T' or 't'. The other characters match themselves.
+    private static final String RFC_3339_DATE_TIME = "0000-00-00T00:00:00";
+    private static final String EMAIL_TIME = " 0000 00:00:00 ";
+    private static final int MAX_OFFSET_HOURS = 18;
+    private static final int MAX_FRACTION_DIGITS = 9;
+    // In the order of the days of the week of `CalendarUtils.getDayOfWeek`.
+    private static final String[] DAY_NAMES = {"Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat"};
+    private static final String[] MONTH_NAMES = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep",
+            "Oct", "Nov", "Dec"};
+
+    private TimestampValidator() {}
+
+    /**
+     * Validates an RFC 3339 `date-time` string (e.g., `2007-12-03T10:15:30.00Z`). The fraction of the second can
+     * have up to nine digits, the offset should be within +-18:00, and leap seconds are not accepted.
+     *
+     * @param value the string to be validated
+     * @return the index of the first invalid character or -1 if the string is valid
+     */
+    public static int findRfc3339Error(String value) {
+
+        int error = matchTemplate(value, 0, RFC_3339_DATE_TIME);
+        if (error >= 0) {
+            return error;
+        }
+        long year = toNumber(value, 0, 4);
+        long month = toNumber(value, 5, 2);
+        if (month < 1 || month > 12) {
+            return 5;
+        }
+        long day = toNumber(value, 8, 2);
+        if (day < 1 || day > CalendarUtils.lengthOfMonth(year, month)) {
+            return 8;
+        }
+        error = checkTime(value, 11);
+        if (error >= 0) {
+            return error;
+        }
+        int position = RFC_3339_DATE_TIME.length();
+        if (position < value.length() && value.charAt(position) == '.') {
+            int fractionStart = ++position;
+            while (position < value.length() && isDigit(value.charAt(position))) {
+                position++;
+            }
+            if (position == fractionStart) {
+                return position;
+            }
+            if (position - fractionStart > MAX_FRACTION_DIGITS) {
+                return fractionStart + MAX_FRACTION_DIGITS;
+            }
+        }
+        if (position >= value.length()) {
+            return value.length();
+        }
+        char offsetSign = value.charAt(position);
+        if (offsetSign == 'Z' || offsetSign == 'z') {
+            position++;
+        } else if (offsetSign == '+' || offsetSign == '-') {
+            error = matchTemplate(value, position + 1, "00:00");
+            if (error >= 0) {
+                return error;
+            }
+            error = checkOffset(toNumber(value, position + 1, 2), toNumber(value, position + 4, 2), position + 1,
+                    position + 4);
+            if (error >= 0) {
+                return error;
+            }
+            position += 6;
+        } else {
+            return position;
+        }
+        return position == value.length() ? -1 : position;
+    }
+
+    /**
+     * Validates an RFC 5322 date and time string in the form of `time:civilFromEmailString`
+     * (e.g., `Wed, 10 Mar 2021 19:51:55 -0800 (PST)`). The names of the days and the months are in English, the
+     * day of the week should be the one of the date, and the comment should be the name of a time zone.
+     *
+     * @param value the string to be validated
+     * @return the index of the first invalid character or -1 if the string is valid
+     */
+    public static int findEmailDateError(String value) {
+
+        int dayOfWeek = findName(value, 0, DAY_NAMES);
+        if (dayOfWeek < 0) {
+            return 0;
+        }
+        int error = matchTemplate(value, 3, ", ");
+        if (error >= 0) {
+            return error;
+        }
+        int dayStart = 5;
+        int position = dayStart;
+        while (position < value.length() && position < dayStart + 2 && isDigit(value.charAt(position))) {
+            position++;
+        }
+        if (position == dayStart) {
+            return position;
+        }
+        long day = toNumber(value, dayStart, position - dayStart);
+        if (position >= value.length() || value.charAt(position) != ' ') {
+            return Math.min(position, value.length());
+        }
+        int monthStart = position + 1;
+        int month = findName(value, monthStart, MONTH_NAMES) + 1;
+        if (month == 0) {
+            return monthStart;
+        }
+        position = monthStart + 3;
+        error = matchTemplate(value, position, EMAIL_TIME);
+        if (error >= 0) {
+            return error;
+        }
+        long year = toNumber(value, position + 1, 4);
+        if (year == 0) {
+            return position + 1;
+        }
+        if (day < 1 || day > CalendarUtils.lengthOfMonth(year, month)) {
+            return dayStart;
+        }
+        if (CalendarUtils.getDayOfWeek(CalendarUtils.toEpochDay(year, month, day)) != dayOfWeek) {
+            return 0;
+        }
+        error = checkTime(value, position + 6);
+        if (error >= 0) {
+            return error;
+        }
+        position += EMAIL_TIME.length();
+        if (position >= value.length()) {
+            return value.length();
+        }
+        char offsetSign = value.charAt(position);
+        if (offsetSign != '+' && offsetSign != '-') {
+            return position;
+        }
+        error = matchTemplate(value, position + 1, "0000");
+        if (error >= 0) {
+            return error;
+        }
+        error = checkOffset(toNumber(value, position + 1, 2), toNumber(value, position + 3, 2), position + 1,
+                position + 3);
+        if (error >= 0) {
+            return error;
+        }
+        position += 5;
+        if (position < value.length() && value.charAt(position) == ' ') {
+            position++;
+        }
+        if (position < value.length() && value.charAt(position) == '(') {
+            int nameStart = position + 1;
+            int nameEnd = value.indexOf(')', nameStart);
+            if (nameEnd < 0) {
+                return value.length();
+            }
+            if (!ZoneNames.contains(value, nameStart, nameEnd)) {
+                return nameStart;
+            }
+            position = nameEnd + 1;
+        }
+        return position == value.length() ? -1 : position;
+    }
+
+    /**
+     * Checks whether the given fields form a valid date of the proleptic Gregorian calendar in the range of years
+     * supported by the library.
+     */
+    public static boolean isValidDate(long year, long month, long day) {
+
+        return year >= Year.MIN_VALUE && year <= Year.MAX_VALUE && month >= 1 && month <= 12 && day >= 1
+                && day <= CalendarUtils.lengthOfMonth(year, month);
+    }
+
+    /**
+     * Checks the hour, the minute and the second of a time in the form of `HH:MM:SS` whose digits have been checked.
+     */
+    private static int checkTime(String value, int start) {
+
+        if (toNumber(value, start, 2) > 23) {
+            return start;
+        }
+        if (toNumber(value, start + 3, 2) > 59) {
+            return start + 3;
+        }
+        if (toNumber(value, start + 6, 2) > 59) {
+            return start + 6;
+        }
+        return -1;
+    }
+
+    private static int checkOffset(long hours, long minutes, int hoursStart, int minutesStart) {
+
+        if (hours > MAX_OFFSET_HOURS) {
+            return hoursStart;
+        }
+        if (minutes > 59 || (hours == MAX_OFFSET_HOURS && minutes > 0)) {
+            return minutesStart;
+        }
+        return -1;
+    }
+
+    /**
+     * Matches the given template at the given index of the value.
+     *
+     * @return the index of the first character that does not match or -1 if all the characters match
+     */
+    private static int matchTemplate(String value, int start, String template) {
+
+        for (int i = 0; i < template.length(); i++) {
+            int index = start + i;
+            if (index >= value.length()) {
+                return value.length();
+            }
+            char expected = template.charAt(i);
+            char actual = value.charAt(index);
+            boolean matches;
+            if (expected == '0') {
+                matches = isDigit(actual);
+            } else if (expected == 'T') {
+                matches = actual == 'T' || actual == 't';
+            } else {
+                matches = actual == expected;
+            }
+            if (!matches) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the three-letter name at the given index of the value or -1 if there is none.
+     */
+    private static int findName(String value, int start, String[] names) {
+
+        if (start + 3 > value.length()) {
+            return -1;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (value.startsWith(names[i], start)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long toNumber(String value, int start, int count) {
+
+        long number = 0;
+        for (int i = start; i < start + count; i++) {
+            number = number * 10 + (value.charAt(i) - '0');
+        }
+        return number;
+    }
+
+    private static boolean isDigit(char c) {
+
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * The names of the time zones that the email date and time parser accepts in a comment. They are collected when
+     * a comment is validated for the first time.
+     */
+    private static final class ZoneNames {
+
+        private static final String[] NAMES = load();
+
+        private static String[] load() {
+
+            TreeSet<String> candidates = new TreeSet<>(ZoneId.getAvailableZoneIds());
+            candidates.addAll(ZoneId.SHORT_IDS.keySet());
+            candidates.addAll(Arrays.asList("Z", "UT", "UTC", "GMT"));
+            for (String[] zoneStrings : DateFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT))
+                    .getZoneStrings()) {
+                // The zone ID is followed by pairs of long and short names, of which the parser accepts the short
+                // ones.
+                for (int i = 2; i < zoneStrings.length; i += 2) {
+                    if (zoneStrings[i] != null) {
+                        candidates.add(zoneStrings[i]);
+                    }
+                }
+            }
+            // Keeps only the names that the parser accepts, so that a valid string can always be parsed.
+            candidates.removeIf(name -> name.indexOf(')') >= 0 || !isParsable("(" + name + ")"));
+            return candidates.toArray(new String[0]);
+        }
+
+        private static boolean isParsable(String comment) {
+
+            try {
+                ZonedDateTime.parse("Thu, 1 Jan 1970 00:00:00 +0000 " + comment,
+                        DateTimeFormatters.EMAIL_DATE_TIME_FORMATTER);
+                return true;
+            } catch (DateTimeException e) {
+                return false;
+            }
+        }
+
+        private static boolean contains(String value, int start, int end) {
+
+            int low = 0;
+            int high = NAMES.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int result = compare(NAMES[middle], value, start, end);
+                if (result < 0) {
+                    low = middle + 1;
+                } else if (result > 0) {
+                    high = middle - 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Compares a name with a part of the value in the order of `String.compareTo`.
+         */
+        private static int compare(String name, String value, int start, int end) {
+
+            int length = end - start;
+            int common = Math.min(name.length(), length);
+            for (int i = 0; i < common; i++) {
+                int result = name.charAt(i) - value.charAt(start + i);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return name.length() - length;
+        }
+    }
+
+}
@@ -18,12 +18,16 @@
 package io.ballerina.stdlib.time.util;
 
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.time.nativeimpl.Utc;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -31,8 +35,11 @@ import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Contains the generic utility APIs for the time package.
@@ -41,6 +48,11 @@ import java.util.Map;
  */
 public class Utils {
 
+    // Zone offset records are immutable, so one record is shared per offset.
+    private static final Map<ZoneOffset, BMap<BString, Object>> ZONE_OFFSETS = new ConcurrentHashMap<>();
+    private static volatile ArrayType civilArrayType;
+    private static volatile ArrayType zoneTransitionArrayType;
+
     private Utils() {
 
     }
@@ -102,6 +114,90 @@ public class Utils {
         return zoneOffsetMap;
     }
 
+    /**
+     * Converts nanoseconds to seconds. The result is the same as dividing the nanoseconds by 10^9 with
+     * `BigDecimal.divide`, which gives the smallest non-negative scale that represents the value exactly, without
+     * doing the division.
+     *
+     * @param nanos the nanoseconds
+     * @return the seconds
+     */
+    public static BigDecimal secondsFromNanos(long nanos) {
+
+        int scale = Constants.UTC_MAX_PRECISION;
+        while (scale > 0 && nanos % 10 == 0) {
+            nanos /= 10;
+            scale--;
+        }
+        return BigDecimal.valueOf(nanos, scale);
+    }
+
+    public static BMap<BString, Object> createZoneOffset(ZoneOffset offset) {
+
+        return ZONE_OFFSETS.computeIfAbsent(offset, key -> {
+            long totalSeconds = key.getTotalSeconds();
+            long seconds = totalSeconds % Constants.SECONDS_PER_MINUTE;
+            BMap<BString, Object> zoneOffsetMap = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    Constants.READABLE_ZONE_OFFSET_RECORD);
+            zoneOffsetMap.put(Constants.ZONE_OFFSET_RECORD_HOUR_BSTRING, totalSeconds / Constants.SECONDS_PER_HOUR);
+            zoneOffsetMap.put(Constants.ZONE_OFFSET_RECORD_MINUTE_BSTRING,
+                    totalSeconds % Constants.SECONDS_PER_HOUR / Constants.SECONDS_PER_MINUTE);
+            if (seconds != 0) {
+                zoneOffsetMap.put(Constants.ZONE_OFFSET_RECORD_SECOND_BSTRING,
+                        ValueCreator.createDecimalValue(BigDecimal.valueOf(seconds)));
+            }
+            zoneOffsetMap.freezeDirect();
+            return zoneOffsetMap;
+        });
+    }
+
+    public static BMap<BString, Object> createDate(long packedDate) {
+
+        BMap<BString, Object> dateMap = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                Constants.DATE_RECORD);
+        dateMap.put(Constants.DATE_RECORD_YEAR_BSTRING, CalendarUtils.getYear(packedDate));
+        dateMap.put(Constants.DATE_RECORD_MONTH_BSTRING, CalendarUtils.getMonth(packedDate));
+        dateMap.put(Constants.DATE_RECORD_DAY_BSTRING, CalendarUtils.getDay(packedDate));
+        return dateMap;
+    }
+
+    public static BMap<BString, Object> createZoneTransition(ZoneOffsetTransition transition) {
+
+        BMap<BString, Object> transitionMap = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                Constants.READABLE_ZONE_TRANSITION_RECORD);
+        transitionMap.put(Constants.ZONE_TRANSITION_RECORD_UTC_BSTRING, new Utc(transition.getInstant()).build());
+        transitionMap.put(Constants.ZONE_TRANSITION_RECORD_OFFSET_BEFORE_BSTRING,
+                createZoneOffset(transition.getOffsetBefore()));
+        transitionMap.put(Constants.ZONE_TRANSITION_RECORD_OFFSET_AFTER_BSTRING,
+                createZoneOffset(transition.getOffsetAfter()));
+        transitionMap.freezeDirect();
+        return transitionMap;
+    }
+
+    public static BArray createZoneTransitionArray(List<ZoneOffsetTransition> transitions) {
+
+        Object[] transitionMaps = new Object[transitions.size()];
+        for (int i = 0; i < transitionMaps.length; i++) {
+            transitionMaps[i] = createZoneTransition(transitions.get(i));
+        }
+        BArray transitionArray = ValueCreator.createArrayValue(transitionMaps, getZoneTransitionArrayType());
+        transitionArray.freezeDirect();
+        return transitionArray;
+    }
+
+    // The record type is taken from the first record created, as the `time:Civil` record type is.
+    private static ArrayType getZoneTransitionArrayType() {
+
+        ArrayType arrayType = zoneTransitionArrayType;
+        if (arrayType == null) {
+            BMap<BString, Object> transitionRecord = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    Constants.READABLE_ZONE_TRANSITION_RECORD);
+            arrayType = TypeCreator.createArrayType(transitionRecord.getType());
+            zoneTransitionArrayType = arrayType;
+        }
+        return arrayType;
+    }
+
     public static ZonedDateTime createZoneDateTimeFromCivilValues(long year, long month, long day, long hour,
                                                                   long minute, BDecimal second, long zoneHour,
                                                                   long zoneMinute, BDecimal zoneSecond,
@@ -129,6 +225,49 @@ public class Utils {
                 StringUtils.fromString(errorMsg), null, null);
     }
 
+    // The returned array is frozen so that it belongs to the `readonly & time:Utc[]` type.
+    public static BArray createUtcArray(List<BArray> utcList) {
+
+        BArray utcArray = ValueCreator.createArrayValue(utcList.toArray(), TypeCreator.createArrayType(Utc.UTC_TYPE));
+        utcArray.freezeDirect();
+        return utcArray;
+    }
+
+    // The array is mutable, but its members are of the `time:Utc` type.
+    public static BArray createMutableUtcArray(Object[] utcs) {
+
+        return ValueCreator.createArrayValue(utcs, TypeCreator.createArrayType(Utc.UTC_TYPE));
+    }
+
+    public static BArray createCivilArray(Object[] civils) {
+
+        return ValueCreator.createArrayValue(civils, getCivilArrayType());
+    }
+
+    public static BArray createCivilMatrix(Object[][] civilArrays) {
+
+        ArrayType civilArrayType = getCivilArrayType();
+        Object[] rows = new Object[civilArrays.length];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = ValueCreator.createArrayValue(civilArrays[i], civilArrayType);
+        }
+        return ValueCreator.createArrayValue(rows, TypeCreator.createArrayType(civilArrayType));
+    }
+
+    // The `time:Civil` record type is available only after the module is initialized, so it is taken from the first
+    // record created and the array type is reused afterwards.
+    private static ArrayType getCivilArrayType() {
+
+        ArrayType arrayType = civilArrayType;
+        if (arrayType == null) {
+            BMap<BString, Object> civilRecord = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    Constants.CIVIL_RECORD);
+            arrayType = TypeCreator.createArrayType(civilRecord.getType());
+            civilArrayType = arrayType;
+        }
+        return arrayType;
+    }
+
     public static Duration createTimeDuration(int hours, int minutes, int seconds, int nanoSeconds) {
         return Duration.ofHours(hours).plusMinutes(minutes).plusSeconds(seconds).plusNanos(nanoSeconds);
     }
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import com.sun.management.ThreadMXBean;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.time.util.Constants;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+/**
+ * Checks the bytes allocated by each extern call against the budgets in `allocation-budgets.properties`.
+ * An extern whose budget is `unmeasured` creates records or objects of the module types, which need an initialized
+ * Ballerina module, or starts a thread, and is not measured here.
+ *
+ * @since 2.8.1
+ */
+public class AllocationBudgetTest {
+
+    private static final String BUDGETS_FILE = "allocation-budgets.properties";
+    private static final String UNMEASURED = "unmeasured";
+    private static final int WARM_UP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+    private static final Class<?>[] EXTERN_CLASSES = {ExternMethods.class, TimeZoneExternUtils.class,
+            DeadlineExternUtils.class, RecurrenceExternUtils.class, HybridClockExternUtils.class,
+            TimeOrderedIdExternUtils.class, BusinessCalendarExternUtils.class, IntervalIndexExternUtils.class,
+            WindowAggregatorExternUtils.class, RateLimiterExternUtils.class, TimerWheelExternUtils.class};
+
+    private final ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Properties budgets = new Properties();
+    private final Map<String, Supplier<Object>> operations = new LinkedHashMap<>();
+    // Keeps the results reachable so that the calls are not optimized away.
+    private volatile Object sink;
+
+    @BeforeClass
+    public void setup() throws IOException {
+
+        if (!threadBean.isThreadAllocatedMemorySupported()) {
+            throw new SkipException("Thread allocation measurement is not supported by this JVM");
+        }
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        try (InputStream budgetsStream = getClass().getClassLoader().getResourceAsStream(BUDGETS_FILE)) {
+            Assert.assertNotNull(budgetsStream, BUDGETS_FILE + " is missing");
+            budgets.load(budgetsStream);
+        }
+        registerOperations();
+    }
+
+    @Test
+    public void testEveryExternHasBudget() {
+
+        for (Class<?> externClass : EXTERN_CLASSES) {
+            for (Method method : externClass.getDeclaredMethods()) {
+                String name = method.getName();
+                if (!Modifier.isPublic(method.getModifiers()) || !name.startsWith("extern")) {
+                    continue;
+                }
+                String budget = budgets.getProperty(name);
+                Assert.assertNotNull(budget, "No allocation budget for " + externClass.getSimpleName() + "." + name);
+                if (!UNMEASURED.equals(budget)) {
+                    Assert.assertTrue(operations.containsKey(name), "No measured operation for " + name);
+                }
+            }
+        }
+    }
+
+    @DataProvider(name = "operations")
+    public Object[][] getOperations() {
+
+        return operations.keySet().stream().map(name -> new Object[]{name}).toArray(Object[][]::new);
+    }
+
+    @Test(dataProvider = "operations", dependsOnMethods = "testEveryExternHasBudget")
+    public void testAllocationBudget(String name) {
+
+        long budget = Long.parseLong(budgets.getProperty(name).trim());
+        long allocated = measureAllocatedBytes(operations.get(name));
+        Assert.assertTrue(allocated <= budget,
+                name + " allocated " + allocated + " bytes per call, which exceeds its budget of " + budget);
+    }
+
+    private long measureAllocatedBytes(Supplier<Object> operation) {
+
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        return (threadBean.getCurrentThreadAllocatedBytes() - before) / MEASURED_ITERATIONS;
+    }
+
+    private void registerOperations() {
+
+        BArray utc = new Utc(Instant.parse("2021-04-12T23:20:50.520Z")).build();
+        BArray otherUtc = new Utc(Instant.parse("2021-04-13T01:02:03.000000456Z")).build();
+        BArray utcs = createUtcArray(otherUtc, utc, otherUtc, utc);
+        BArray utcLists = ValueCreator.createArrayValue(new Object[]{createUtcArray(utc, otherUtc),
+                createUtcArray(utc, otherUtc)}, TypeCreator.createArrayType(utcs.getType()));
+        BMap<BString, Object> date = ValueCreator.createMapValue();
+        date.put(Constants.DATE_RECORD_YEAR_BSTRING, 2021L);
+        date.put(Constants.DATE_RECORD_MONTH_BSTRING, 4L);
+        date.put(Constants.DATE_RECORD_DAY_BSTRING, 12L);
+        BDecimal second = ValueCreator.createDecimalValue(new BigDecimal("50.52"));
+        BDecimal zero = ValueCreator.createDecimalValue(BigDecimal.ZERO);
+        BString timeAbbrev = StringUtils.fromString("America/New_York");
+        BString preferZoneOffset = StringUtils.fromString("PREFER_ZONE_OFFSET");
+        BString preferTimeAbbrev = StringUtils.fromString("PREFER_TIME_ABBREV");
+
+        operations.put("externUtcNow", () -> ExternMethods.externUtcNow(9));
+        operations.put("externMonotonicNow", ExternMethods::externMonotonicNow);
+        BString timestamp = StringUtils.fromString("2021-04-12T23:20:50.520Z");
+        operations.put("externUtcFromString", () -> ExternMethods.externUtcFromString(timestamp));
+        operations.put("externUtcToString", () -> ExternMethods.externUtcToString(utc));
+        operations.put("externUtcCompare", () -> ExternMethods.externUtcCompare(utc, otherUtc));
+        operations.put("externUtcMin", () -> ExternMethods.externUtcMin(utc, utcs));
+        operations.put("externUtcMax", () -> ExternMethods.externUtcMax(utc, utcs));
+        operations.put("externUtcSort", () -> ExternMethods.externUtcSort(utcs));
+        operations.put("externUtcMergeSorted", () -> ExternMethods.externUtcMergeSorted(utcLists));
+        operations.put("externUtcDiffSeconds", () -> ExternMethods.externUtcDiffSeconds(utc, otherUtc));
+        operations.put("externDateValidate", () -> ExternMethods.externDateValidate(date));
+        operations.put("externDayOfWeek", () -> ExternMethods.externDayOfWeek(date));
+        BString emailTimestamp = StringUtils.fromString("Mon, 12 Apr 2021 23:20:50 +0530 (IST)");
+        BString invalidTimestamp = StringUtils.fromString("2021-04-12T23:20:50.520");
+        // Checks both a valid and an invalid string, since neither of them may allocate.
+        operations.put("externIsValidRfc3339", () -> ExternMethods.externIsValidRfc3339(timestamp)
+                && ExternMethods.externIsValidRfc3339(invalidTimestamp));
+        operations.put("externIsValidEmailDate", () -> ExternMethods.externIsValidEmailDate(emailTimestamp)
+                && ExternMethods.externIsValidEmailDate(invalidTimestamp));
+        operations.put("externIsValidDate", () -> ExternMethods.externIsValidDate(2021, 4, 12)
+                && ExternMethods.externIsValidDate(2021, 2, 29));
+        operations.put("externUtcFromCivil", () -> ExternMethods.externUtcFromCivil(2021, 4, 12, 23, 20, second,
+                5, 30, zero));
+        operations.put("externCivilToString", () -> ExternMethods.externCivilToString(2021, 4, 12, 23, 20, second,
+                5, 30, zero, timeAbbrev, preferZoneOffset));
+        BString zoneHandling = StringUtils.fromString("0");
+        operations.put("externUtcToEmailString", () -> ExternMethods.externUtcToEmailString(utc, zoneHandling));
+        operations.put("externCivilToEmailString", () -> ExternMethods.externCivilToEmailString(2021, 4, 12, 23,
+                20, second, 5, 30, zero, timeAbbrev, preferZoneOffset));
+
+        BObject timeZone = createNativeObject();
+        TimeZoneExternUtils.externTimeZoneInitWithId(timeZone, timeAbbrev);
+        BObject systemZone = createNativeObject();
+        operations.put("externTimeZoneInitWithSystemZone",
+                () -> TimeZoneExternUtils.externTimeZoneInitWithSystemZone(systemZone));
+        operations.put("externTimeZoneInitWithId", () -> {
+            TimeZoneExternUtils.externTimeZoneInitWithId(timeZone, timeAbbrev);
+            return timeZone;
+        });
+        operations.put("externTimeZoneFixedOffset", () -> TimeZoneExternUtils.externTimeZoneFixedOffset(timeZone));
+        operations.put("externTimeZoneUtcFromCivil", () -> TimeZoneExternUtils.externTimeZoneUtcFromCivil(timeZone,
+                2021, 4, 12, 23, 20, second, timeAbbrev, preferTimeAbbrev));
+        operations.put("externTimeZoneUtcSeries", () -> TimeZoneExternUtils.externTimeZoneUtcSeries(timeZone, 2021,
+                1, 31, 9, 0, zero, 0, 0, zero, timeAbbrev, preferTimeAbbrev, 0, 1, 0, 0, 0, zero, 12L));
+        operations.put("externUtcToEpochDay", () -> ExternMethods.externUtcToEpochDay(utc, timeZone));
+        operations.put("externDateToEpochDay", () -> ExternMethods.externDateToEpochDay(2021, 4, 12));
+        operations.put("externDateDiffDays", () -> ExternMethods.externDateDiffDays(2021, 4, 12, 1994, 11, 7));
+        operations.put("externDateToString", () -> ExternMethods.externDateToString(2021, 4, 12));
+
+        BObject deadline = createNativeObject();
+        DeadlineExternUtils.externDeadlineInit(deadline, ValueCreator.createDecimalValue(BigDecimal.TEN));
+        BObject otherDeadline = createNativeObject();
+        DeadlineExternUtils.externDeadlineInit(otherDeadline, second);
+        BDecimal timeout = ValueCreator.createDecimalValue(new BigDecimal("2.5"));
+        operations.put("externDeadlineInit", () -> {
+            DeadlineExternUtils.externDeadlineInit(otherDeadline, timeout);
+            return otherDeadline;
+        });
+        operations.put("externDeadlineRemaining", () -> DeadlineExternUtils.externDeadlineRemaining(deadline));
+        operations.put("externDeadlineIsExpired", () -> DeadlineExternUtils.externDeadlineIsExpired(deadline));
+        operations.put("externDeadlineMin", () -> DeadlineExternUtils.externDeadlineMin(deadline, otherDeadline));
+        operations.put("externDeadlineToUtc", () -> DeadlineExternUtils.externDeadlineToUtc(deadline));
+
+        BObject recurrence = createNativeObject();
+        BString expression = StringUtils.fromString("0 9 * * MON-FRI");
+        RecurrenceExternUtils.externRecurrenceInit(recurrence, expression, timeZone);
+        operations.put("externRecurrenceInit", () -> RecurrenceExternUtils.externRecurrenceInit(
+                createNativeObject(), expression, timeZone));
+        operations.put("externRecurrenceNext", () -> RecurrenceExternUtils.externRecurrenceNext(recurrence, utc));
+        operations.put("externRecurrenceNextN",
+                () -> RecurrenceExternUtils.externRecurrenceNextN(recurrence, utc, 10));
+        operations.put("externRecurrencePrevious",
+                () -> RecurrenceExternUtils.externRecurrencePrevious(recurrence, utc));
+
+        BObject clock = createNativeObject();
+        HybridClockExternUtils.externHybridClockInit(clock, ValueCreator.createDecimalValue(BigDecimal.TEN));
+        long hlcTimestamp = HybridClockExternUtils.externHybridClockNow(clock);
+        operations.put("externHybridClockInit", () -> {
+            HybridClockExternUtils.externHybridClockInit(clock, timeout);
+            return clock;
+        });
+        operations.put("externHybridClockNow", () -> HybridClockExternUtils.externHybridClockNow(clock));
+        operations.put("externHybridClockUpdate",
+                () -> HybridClockExternUtils.externHybridClockUpdate(clock, hlcTimestamp));
+        operations.put("externHlcToUtc", () -> HybridClockExternUtils.externHlcToUtc(hlcTimestamp));
+        operations.put("externHlcFromUtc", () -> HybridClockExternUtils.externHlcFromUtc(utc));
+
+        BObject idGenerator = createNativeObject();
+        BString uuidFormat = StringUtils.fromString("UUID_V7");
+        TimeOrderedIdExternUtils.externIdGeneratorInit(idGenerator, uuidFormat, false);
+        BString id = TimeOrderedIdExternUtils.externIdGeneratorNextId(idGenerator);
+        operations.put("externIdGeneratorInit", () -> {
+            TimeOrderedIdExternUtils.externIdGeneratorInit(idGenerator, uuidFormat, true);
+            return idGenerator;
+        });
+        operations.put("externIdGeneratorNextId", () -> TimeOrderedIdExternUtils.externIdGeneratorNextId(idGenerator));
+        operations.put("externIdGeneratorNextIdBytes",
+                () -> TimeOrderedIdExternUtils.externIdGeneratorNextIdBytes(idGenerator));
+        operations.put("externIdGeneratorNextIds",
+                () -> TimeOrderedIdExternUtils.externIdGeneratorNextIds(idGenerator, 10));
+        operations.put("externIdToUtc", () -> TimeOrderedIdExternUtils.externIdToUtc(id));
+
+        BObject businessCalendar = createNativeObject();
+        BArray weekendDays = ValueCreator.createArrayValue(new long[]{0, 6});
+        BArray holidays = ValueCreator.createArrayValue(new Object[]{date},
+                TypeCreator.createArrayType(date.getType()));
+        BusinessCalendarExternUtils.externBusinessCalendarInit(businessCalendar, weekendDays, holidays);
+        operations.put("externBusinessCalendarInit", () -> BusinessCalendarExternUtils.externBusinessCalendarInit(
+                businessCalendar, weekendDays, holidays));
+        operations.put("externBusinessCalendarIsBusinessDay",
+                () -> BusinessCalendarExternUtils.externBusinessCalendarIsBusinessDay(businessCalendar, 2021, 4, 12));
+        operations.put("externBusinessCalendarBusinessDaysBetween",
+                () -> BusinessCalendarExternUtils.externBusinessCalendarBusinessDaysBetween(businessCalendar, 2021, 4,
+                        12, 2022, 1, 31));
+
+        BObject intervalIndex = createNativeObject();
+        BMap<BString, Object> interval = ValueCreator.createMapValue();
+        interval.put(Constants.INTERVAL_RECORD_START_BSTRING, utc);
+        interval.put(Constants.INTERVAL_RECORD_END_BSTRING, otherUtc);
+        interval.put(Constants.INTERVAL_RECORD_ID_BSTRING, StringUtils.fromString("interval"));
+        BArray intervals = ValueCreator.createArrayValue(new Object[]{interval},
+                TypeCreator.createArrayType(interval.getType()));
+        IntervalIndexExternUtils.externIntervalIndexInit(intervalIndex, intervals);
+        BString otherIntervalId = StringUtils.fromString("otherInterval");
+        operations.put("externIntervalIndexInit", () -> IntervalIndexExternUtils.externIntervalIndexInit(
+                createNativeObject(), intervals));
+        Supplier<Object> addAndRemove = () -> {
+            IntervalIndexExternUtils.externIntervalIndexAdd(intervalIndex, utc, otherUtc, otherIntervalId);
+            return IntervalIndexExternUtils.externIntervalIndexRemove(intervalIndex, otherIntervalId);
+        };
+        operations.put("externIntervalIndexAdd", addAndRemove);
+        operations.put("externIntervalIndexRemove", addAndRemove);
+        operations.put("externIntervalIndexOverlapping",
+                () -> IntervalIndexExternUtils.externIntervalIndexOverlapping(intervalIndex, utc, otherUtc));
+        operations.put("externIntervalIndexContaining",
+                () -> IntervalIndexExternUtils.externIntervalIndexContaining(intervalIndex, otherUtc));
+
+        BObject windowAggregator = createNativeObject();
+        BDecimal window = ValueCreator.createDecimalValue(BigDecimal.valueOf(60));
+        BDecimal slide = ValueCreator.createDecimalValue(BigDecimal.TEN);
+        WindowAggregatorExternUtils.externWindowAggregatorInit(windowAggregator, window, slide, slide);
+        BString windowKey = StringUtils.fromString("key");
+        operations.put("externWindowAggregatorInit", () -> WindowAggregatorExternUtils.externWindowAggregatorInit(
+                windowAggregator, window, slide, slide));
+        operations.put("externWindowAggregatorAdd",
+                () -> WindowAggregatorExternUtils.externWindowAggregatorAdd(windowAggregator, windowKey, utc, 1.5));
+
+        BObject rateLimiter = createNativeObject();
+        BDecimal rate = ValueCreator.createDecimalValue(BigDecimal.valueOf(1_000_000_000));
+        RateLimiterExternUtils.externRateLimiterInit(rateLimiter, rate, 1_000_000);
+        operations.put("externRateLimiterInit",
+                () -> RateLimiterExternUtils.externRateLimiterInit(rateLimiter, rate, 1_000_000));
+        operations.put("externRateLimiterTryAcquire",
+                () -> RateLimiterExternUtils.externRateLimiterTryAcquire(rateLimiter, 1));
+
+        BObject timerWheel = createNativeObject();
+        BDecimal tick = ValueCreator.createDecimalValue(new BigDecimal("0.01"));
+        TimerWheelExternUtils.externTimerWheelInit(timerWheel, tick, 256);
+        BString timerKey = StringUtils.fromString("timer");
+        operations.put("externTimerWheelInit", () -> TimerWheelExternUtils.externTimerWheelInit(
+                createNativeObject(), tick, 256));
+        Supplier<Object> scheduleAndCancel = () -> {
+            TimerWheelExternUtils.externTimerWheelSchedule(timerWheel, timerKey, timeout);
+            return TimerWheelExternUtils.externTimerWheelCancel(timerWheel, timerKey);
+        };
+        operations.put("externTimerWheelSchedule", scheduleAndCancel);
+        operations.put("externTimerWheelCancel", scheduleAndCancel);
+        operations.put("externTimerWheelExpired", () -> TimerWheelExternUtils.externTimerWheelExpired(timerWheel));
+        operations.put("externTimerWheelSize", () -> TimerWheelExternUtils.externTimerWheelSize(timerWheel));
+    }
+
+    private static BArray createUtcArray(Object... utcs) {
+
+        return ValueCreator.createArrayValue(utcs, TypeCreator.createArrayType(Utc.UTC_TUPLE_TYPE));
+    }
+
+    /**
+     * Creates an object that only holds native data, which is all that the externs use of a Ballerina object.
+     */
+    private static BObject createNativeObject() {
+
+        HashMap<String, Object> nativeData = new HashMap<>();
+        return (BObject) Proxy.newProxyInstance(AllocationBudgetTest.class.getClassLoader(),
+                new Class<?>[]{BObject.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "addNativeData":
+                            nativeData.put((String) args[0], args[1]);
+                            return null;
+                        case "getNativeData":
+                            return args == null ? nativeData : nativeData.get((String) args[0]);
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+/**
+ * Compares `BusinessCalendar` with a day-by-day loop over random calendars. The additions span from a few days to
+ * several years, so that both the walk over the yearly bitsets and the binary search are checked.
+ *
+ * @since 2.8.1
+ */
+public class BusinessCalendarTest {
+
+    private static final long FIRST_DAY = LocalDate.of(1990, 1, 1).toEpochDay();
+    private static final long LAST_DAY = LocalDate.of(2060, 1, 1).toEpochDay();
+    // The checked days and additions stay this far from the ends of the range, so the loop does not leave it.
+    private static final int MARGIN = 10 * 366;
+    private static final int CALENDARS = 24;
+    private static final int CHECKS_PER_CALENDAR = 2_000;
+
+    @DataProvider(name = "seeds")
+    public Object[][] getSeeds() {
+
+        Object[][] seeds = new Object[CALENDARS][];
+        for (int i = 0; i < CALENDARS; i++) {
+            seeds[i] = new Object[]{(long) i};
+        }
+        return seeds;
+    }
+
+    @Test(dataProvider = "seeds")
+    public void testAgainstDayByDayLoop(long seed) {
+
+        Random random = new Random(seed);
+        long[] weekendDays = randomWeekendDays(random);
+        long[] holidays = new long[random.nextInt(400)];
+        for (int i = 0; i < holidays.length; i++) {
+            // Holidays may repeat and may fall on weekend days.
+            holidays[i] = FIRST_DAY + random.nextInt((int) (LAST_DAY - FIRST_DAY));
+        }
+        BusinessCalendar calendar = new BusinessCalendar(weekendDays, holidays);
+        boolean[] expected = businessDays(weekendDays, holidays);
+        // businessDaysBefore[i] is the number of business days in [FIRST_DAY, FIRST_DAY + i).
+        long[] businessDaysBefore = new long[expected.length + 1];
+        for (int i = 0; i < expected.length; i++) {
+            businessDaysBefore[i + 1] = businessDaysBefore[i] + (expected[i] ? 1 : 0);
+        }
+        String calendarText = "weekend " + Arrays.toString(weekendDays) + ", seed " + seed;
+
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(calendar.isBusinessDay(FIRST_DAY + i), expected[i],
+                    "isBusinessDay(" + (FIRST_DAY + i) + ") with " + calendarText);
+        }
+        for (int i = 0; i < CHECKS_PER_CALENDAR; i++) {
+            int start = MARGIN + random.nextInt(expected.length - 2 * MARGIN);
+            int end = MARGIN + random.nextInt(expected.length - 2 * MARGIN);
+            Assert.assertEquals(calendar.countBusinessDays(FIRST_DAY + start, FIRST_DAY + end),
+                    businessDaysBefore[end] - businessDaysBefore[start],
+                    "countBusinessDays(" + (FIRST_DAY + start) + ", " + (FIRST_DAY + end) + ") with " + calendarText);
+
+            long days = randomDays(random, 7 - weekendDays.length);
+            Assert.assertEquals(calendar.addBusinessDays(FIRST_DAY + start, days),
+                    FIRST_DAY + addByLoop(expected, start, days),
+                    "addBusinessDays(" + (FIRST_DAY + start) + ", " + days + ") with " + calendarText);
+        }
+    }
+
+    private static long[] randomWeekendDays(Random random) {
+
+        // A calendar needs at least one working day of the week.
+        int weekend = random.nextInt((1 << 7) - 1);
+        return LongStream.range(0, 7).filter(day -> (weekend & 1 << day) != 0).toArray();
+    }
+
+    private static long randomDays(Random random, int workingDaysPerWeek) {
+
+        switch (random.nextInt(3)) {
+            case 0:
+                return random.nextInt(11) - 5;
+            case 1:
+                return random.nextInt(501) - 250;
+            default:
+                // Up to about 8 years of business days, which is beyond the walk over the yearly bitsets.
+                int maxDays = workingDaysPerWeek * 52 * 8;
+                return random.nextInt(2 * maxDays + 1) - maxDays;
+        }
+    }
+
+    private static boolean[] businessDays(long[] weekendDays, long[] holidays) {
+
+        Set<Long> weekend = new HashSet<>();
+        for (long weekendDay : weekendDays) {
+            weekend.add(weekendDay);
+        }
+        Set<Long> holidaySet = new HashSet<>();
+        for (long holiday : holidays) {
+            holidaySet.add(holiday);
+        }
+        boolean[] businessDays = new boolean[(int) (LAST_DAY - FIRST_DAY)];
+        for (int i = 0; i < businessDays.length; i++) {
+            long day = FIRST_DAY + i;
+            long dayOfWeek = LocalDate.ofEpochDay(day).getDayOfWeek().getValue() % 7;
+            businessDays[i] = !weekend.contains(dayOfWeek) && !holidaySet.contains(day);
+        }
+        return businessDays;
+    }
+
+    private static long addByLoop(boolean[] businessDays, int start, long days) {
+
+        int day = start;
+        int step = days > 0 ? 1 : -1;
+        for (long remaining = Math.abs(days); remaining > 0; ) {
+            day += step;
+            if (businessDays[day]) {
+                remaining--;
+            }
+        }
+        return day;
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Checks that each timer of a `TimerWheel` expires in the first call to `expire` at or after its tick and never
+ * before it. The wheel runs on a test clock, and the timers span several levels, including the ticks around the
+ * starts of the slots of each level, so that the skipped ticks and the cascades between the levels are covered.
+ *
+ * @since 2.8.1
+ */
+public class TimerWheelTest {
+
+    private static final long TICK_NANOS = 10;
+    // The clock does not start at zero, so that the ticks are counted from the creation of the wheel.
+    private static final long ORIGIN_NANOS = 1_000_003;
+    private static final int MAX_TICK_BITS = 24;
+
+    private long nowNanos;
+    // The end of the tick of each pending timer, which is the origin for the timers that were already due.
+    private final Map<String, Long> expiries = new HashMap<>();
+    private long lastExpireNanos;
+
+    @DataProvider(name = "wheelSizes")
+    public Object[][] getWheelSizes() {
+
+        return new Object[][]{{2}, {4}, {64}};
+    }
+
+    @Test(dataProvider = "wheelSizes")
+    public void testExpiryAroundSlotBoundaries(int wheelSize) {
+
+        TimerWheel wheel = createWheel(wheelSize);
+        for (int shift = 0; shift <= MAX_TICK_BITS; shift++) {
+            for (long tick : new long[]{1L << shift, 3L << shift}) {
+                for (long nearTick = tick - 1; nearTick <= tick + 1; nearTick++) {
+                    schedule(wheel, "exact-" + nearTick, ORIGIN_NANOS + nearTick * TICK_NANOS);
+                    // A time within the tick is rounded up to the end of the tick.
+                    schedule(wheel, "within-" + nearTick, ORIGIN_NANOS + nearTick * TICK_NANOS - TICK_NANOS / 2);
+                }
+            }
+        }
+        Random random = new Random(wheelSize);
+        while (!expiries.isEmpty()) {
+            nowNanos += randomStepNanos(random);
+            expire(wheel);
+        }
+        Assert.assertEquals(wheel.size(), 0);
+    }
+
+    @Test(dataProvider = "wheelSizes")
+    public void testScheduleCancelAndRescheduleWhileRunning(int wheelSize) {
+
+        TimerWheel wheel = createWheel(wheelSize);
+        Random random = new Random(wheelSize);
+        for (int step = 0; step < 20_000; step++) {
+            nowNanos += randomStepNanos(random);
+            int keys = random.nextInt(4);
+            for (int i = 0; i < keys; i++) {
+                String key = "timer-" + random.nextInt(500);
+                if (random.nextInt(5) == 0) {
+                    Assert.assertEquals(wheel.cancel(key), expiries.remove(key) != null, "Cancel of " + key);
+                } else {
+                    // Some of the timers have already expired, and the others span the levels of the wheel.
+                    long delayNanos = random.nextInt(10) == 0 ? -random.nextInt(100)
+                            : 1 + randomStepNanos(random) * random.nextInt(4);
+                    schedule(wheel, key, nowNanos + delayNanos);
+                }
+            }
+            expire(wheel);
+        }
+        while (!expiries.isEmpty()) {
+            nowNanos += randomStepNanos(random);
+            expire(wheel);
+        }
+        Assert.assertEquals(wheel.size(), 0);
+    }
+
+    private TimerWheel createWheel(int wheelSize) {
+
+        nowNanos = ORIGIN_NANOS;
+        lastExpireNanos = ORIGIN_NANOS;
+        expiries.clear();
+        return new TimerWheel(TICK_NANOS, wheelSize, () -> nowNanos);
+    }
+
+    private void schedule(TimerWheel wheel, String key, long targetNanos) {
+
+        wheel.schedule(StringUtils.fromString(key), targetNanos);
+        if (targetNanos <= nowNanos) {
+            expiries.put(key, ORIGIN_NANOS);
+        } else {
+            long ticks = Math.floorDiv(targetNanos - ORIGIN_NANOS + TICK_NANOS - 1, TICK_NANOS);
+            expiries.put(key, ORIGIN_NANOS + ticks * TICK_NANOS);
+        }
+    }
+
+    private void expire(TimerWheel wheel) {
+
+        List<BString> keys = new ArrayList<>();
+        wheel.expire(keys);
+        long previousExpiry = Long.MIN_VALUE;
+        for (BString key : keys) {
+            Long expiry = expiries.remove(key.getValue());
+            Assert.assertNotNull(expiry, "Unexpected expiry of " + key.getValue() + " at " + nowNanos);
+            Assert.assertTrue(expiry <= nowNanos, key.getValue() + " expired at " + nowNanos + " before "
+                    + expiry);
+            Assert.assertTrue(expiry >= previousExpiry, key.getValue() + " expired out of order");
+            previousExpiry = expiry;
+        }
+        for (Map.Entry<String, Long> entry : expiries.entrySet()) {
+            Assert.assertTrue(entry.getValue() > nowNanos, entry.getKey() + " did not expire at " + nowNanos
+                    + " after " + entry.getValue() + ", the previous call was at " + lastExpireNanos);
+        }
+        lastExpireNanos = nowNanos;
+    }
+
+    /**
+     * Returns a step of the clock, which is often shorter than a tick and sometimes spans many ticks, so that the
+     * wheel both stops at and skips over the starts of the slots.
+     */
+    private static long randomStepNanos(Random random) {
+
+        if (random.nextBoolean()) {
+            return random.nextInt(2 * (int) TICK_NANOS);
+        }
+        return random.nextInt((int) TICK_NANOS << random.nextInt(MAX_TICK_BITS / 2));
+    }
+
+}
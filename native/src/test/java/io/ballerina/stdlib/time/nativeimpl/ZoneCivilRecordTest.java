@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.time.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.time.util.Constants;
+import io.ballerina.stdlib.time.util.Utils;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the civil records of `Zone.toCivilRecord`, which memoizes the local day of the last instant, with
+ * `ZonedDateTime` in every available zone. The instants are random ones and the ones around the offset transitions,
+ * converted both in ascending and in shuffled order so that the memoized day is reused as well as replaced. The
+ * records are plain maps, since the Ballerina module is not initialized here.
+ *
+ * @since 2.8.1
+ */
+public class ZoneCivilRecordTest {
+
+    private static final long MIN_EPOCH_SECOND = Instant.parse("1900-01-01T00:00:00Z").getEpochSecond();
+    private static final long MAX_EPOCH_SECOND = Instant.parse("2100-01-01T00:00:00Z").getEpochSecond();
+    private static final int RANDOM_INSTANTS = 500;
+    private static final long[] TRANSITION_NEIGHBOURS = {-86_400, -3_601, -3_600, -1, 0, 1, 3_599, 3_600, 86_400};
+
+    @DataProvider(name = "zones")
+    public Object[][] getZones() {
+
+        List<String> zoneIds = new ArrayList<>(ZoneId.getAvailableZoneIds());
+        Collections.sort(zoneIds);
+        zoneIds.add("Z");
+        zoneIds.add("+05:30");
+        return zoneIds.stream().map(zoneId -> new Object[]{zoneId}).toArray(Object[][]::new);
+    }
+
+    @Test(dataProvider = "zones")
+    public void testToCivilRecord(String zoneId) {
+
+        ZoneId id = ZoneId.of(zoneId);
+        Random random = new Random(zoneId.hashCode());
+        List<Instant> instants = new ArrayList<>();
+        for (int i = 0; i < RANDOM_INSTANTS; i++) {
+            long epochSecond = MIN_EPOCH_SECOND + (long) (random.nextDouble() * (MAX_EPOCH_SECOND - MIN_EPOCH_SECOND));
+            instants.add(Instant.ofEpochSecond(epochSecond, random.nextInt(1_000_000_000)));
+        }
+        ZoneRules rules = id.getRules();
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(MIN_EPOCH_SECOND));
+        while (transition != null && transition.toEpochSecond() < MAX_EPOCH_SECOND) {
+            for (long neighbour : TRANSITION_NEIGHBOURS) {
+                instants.add(Instant.ofEpochSecond(transition.toEpochSecond() + neighbour));
+            }
+            transition = rules.nextTransition(transition.getInstant());
+        }
+
+        Collections.sort(instants);
+        Zone zone = new Zone(zoneId);
+        for (Instant instant : instants) {
+            assertCivilRecord(toCivilRecord(zone, instant), instant.atZone(id));
+        }
+        Collections.shuffle(instants, random);
+        for (Instant instant : instants) {
+            assertCivilRecord(toCivilRecord(zone, instant), instant.atZone(id));
+        }
+    }
+
+    private static BMap<BString, Object> toCivilRecord(Zone zone, Instant instant) {
+
+        return zone.toCivilRecord(instant.getEpochSecond(), Utils.secondsFromNanos(instant.getNano()),
+                ValueCreator.createMapValue());
+    }
+
+    private static void assertCivilRecord(BMap<BString, Object> civil, ZonedDateTime expected) {
+
+        String message = "Civil record of " + expected.toInstant() + " in " + expected.getZone();
+        Assert.assertEquals(civil.get(Constants.DATE_RECORD_YEAR_BSTRING), (long) expected.getYear(), message);
+        Assert.assertEquals(civil.get(Constants.DATE_RECORD_MONTH_BSTRING), (long) expected.getMonthValue(), message);
+        Assert.assertEquals(civil.get(Constants.DATE_RECORD_DAY_BSTRING), (long) expected.getDayOfMonth(), message);
+        Assert.assertEquals(civil.get(Constants.TIME_OF_DAY_RECORD_HOUR_BSTRING), (long) expected.getHour(), message);
+        Assert.assertEquals(civil.get(Constants.TIME_OF_DAY_RECORD_MINUTE_BSTRING), (long) expected.getMinute(),
+                message);
+        BigDecimal second = ((BDecimal) civil.get(Constants.TIME_OF_DAY_RECORD_SECOND_BSTRING)).decimalValue();
+        BigDecimal expectedSecond = BigDecimal.valueOf(expected.getSecond())
+                .add(Utils.secondsFromNanos(expected.getNano()));
+        Assert.assertEquals(second.compareTo(expectedSecond), 0, message + ": second " + second);
+        Assert.assertEquals(civil.get(Constants.CIVIL_RECORD_DAY_OF_WEEK_BSTRING),
+                (long) (expected.getDayOfWeek().getValue() % 7), message);
+        Assert.assertEquals(((BString) civil.get(Constants.CIVIL_RECORD_TIME_ABBREV_BSTRING)).getValue(),
+                expected.getZone().toString(), message);
+    }
+
+}